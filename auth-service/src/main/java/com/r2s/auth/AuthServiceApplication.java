@@ -3,8 +3,10 @@ package com.r2s.auth;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.r2s.core", "com.r2s.auth"})
+@EnableScheduling
 public class AuthServiceApplication {
 
 	public static void main(String[] args) {
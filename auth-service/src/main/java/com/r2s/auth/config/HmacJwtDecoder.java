@@ -1,53 +0,0 @@
-package com.r2s.auth.config;
-
-import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.MACVerifier;
-import com.nimbusds.jwt.SignedJWT;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.stereotype.Component;
-
-import java.time.Instant;
-
-@Component
-public class HmacJwtDecoder implements JwtDecoder {
-
-    @Value("${jwt.signerKey}")
-    private String signerKey;
-
-    @Override
-    public Jwt decode(String token) throws JwtException {
-        try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSVerifier verifier = new MACVerifier(signerKey.getBytes());
-
-            if (!signedJWT.verify(verifier)) {
-                throw new JwtException("Invalid JWT signature");
-            }
-
-            Instant exp = signedJWT.getJWTClaimsSet()
-                    .getExpirationTime()
-                    .toInstant();
-
-            if (exp.isBefore(Instant.now())) {
-                throw new JwtException("JWT expired");
-            }
-
-            return new Jwt(
-                    token,
-                    signedJWT.getJWTClaimsSet().getIssueTime().toInstant(),
-                    exp,
-                    signedJWT.getHeader().toJSONObject(),
-                    signedJWT.getJWTClaimsSet().getClaims()
-            );
-
-        } catch (JwtException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new JwtException("Invalid JWT", ex);
-        }
-    }
-}
-
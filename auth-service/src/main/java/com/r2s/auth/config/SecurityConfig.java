@@ -1,7 +1,11 @@
 package com.r2s.auth.config;
 
+import com.r2s.auth.domain.hashing.PasswordCostCalibrator;
 import com.r2s.core.constants.SecurityConstants;
+import com.r2s.core.ratelimit.RateLimitBlockFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -9,13 +13,17 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -24,27 +32,38 @@ public class SecurityConfig {
 
     private final JwtDecoder jwtDecoder;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
-    private final RateLimitBlockFilter rateLimitBlockFilter;
+    private final ObjectProvider<RateLimitBlockFilter> rateLimitBlockFilter;
 
     private static final String[] PUBLIC_ENDPOINTS = {
             "/register",
             "/login",
+            "/refresh",
             "/actuator/**"
     };
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(SecurityConstants.BCRYPT_STRENGTH);
+    public PasswordEncoder passwordEncoder(
+            PasswordCostCalibrator calibrator,
+            @Value("${security.password.encoder:" + SecurityConstants.ENCODER_BCRYPT + "}") String encoderId
+    ) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(calibrator.calibrate());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, Map.of(
+                SecurityConstants.ENCODER_BCRYPT, bcrypt,
+                SecurityConstants.ENCODER_PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        ));
+        // hashes stored before the {id} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        // absent when rate-limit.enabled=false or the service has no hot-path Redis
+        rateLimitBlockFilter.ifAvailable(filter ->
+                http.addFilterBefore(filter, BearerTokenAuthenticationFilter.class)
+        );
         http
                 .csrf(AbstractHttpConfigurer::disable)
-                .addFilterBefore(
-                        rateLimitBlockFilter,
-                        BearerTokenAuthenticationFilter.class
-                )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .anyRequest().authenticated()
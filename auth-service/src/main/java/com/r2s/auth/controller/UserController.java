@@ -3,9 +3,12 @@ package com.r2s.auth.controller;
 import com.r2s.auth.service.AuthenticationService;
 import com.r2s.auth.service.UserService;
 import com.r2s.core.dto.ApiResponse;
+import com.r2s.core.dto.request.BulkRegisterRequest;
 import com.r2s.core.dto.request.IntrospectRequest;
 import com.r2s.core.dto.request.LoginRequest;
+import com.r2s.core.dto.request.RefreshTokenRequest;
 import com.r2s.core.dto.request.RegisterRequest;
+import com.r2s.core.dto.response.BulkRegisterResponse;
 import com.r2s.core.dto.response.TokenResponse;
 import com.r2s.core.dto.response.IntrospectResponse;
 import com.r2s.core.dto.response.UserResponse;
@@ -14,6 +17,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -32,6 +36,15 @@ public class UserController {
                 .build();
     }
 
+    @PostMapping("/register/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    ApiResponse<BulkRegisterResponse> registerBulk(@Valid @RequestBody BulkRegisterRequest request) {
+        log.info("Bulk register with {} users", request.getUsers().size());
+        return ApiResponse.<BulkRegisterResponse>builder()
+                .result(userService.registerBulk(request))
+                .build();
+    }
+
     @PostMapping("/login")
     ApiResponse<TokenResponse> login(
             @Valid @RequestBody LoginRequest request
@@ -43,6 +56,17 @@ public class UserController {
                 .build();
     }
 
+    @PostMapping("/refresh")
+    ApiResponse<TokenResponse> refresh(
+            @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        log.info("Refresh token request");
+
+        return ApiResponse.<TokenResponse>builder()
+                .result(authenticationService.refresh(request))
+                .build();
+    }
+
     @PostMapping("/introspect")
     ApiResponse<IntrospectResponse> introspect() {
         log.info("Introspect token request");
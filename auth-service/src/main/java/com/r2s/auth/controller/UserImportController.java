@@ -0,0 +1,44 @@
+package com.r2s.auth.controller;
+
+import com.r2s.auth.service.UserImportService;
+import com.r2s.core.dto.ApiResponse;
+import com.r2s.core.dto.response.UserImportResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admin/import/users")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Slf4j
+public class UserImportController {
+    UserImportService userImportService;
+
+    @PostMapping
+    ApiResponse<UserImportResponse> importUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String jobId,
+            InputStream body
+    ) {
+        String id = jobId == null || jobId.isBlank() ? UUID.randomUUID().toString() : jobId;
+        log.info("User import request: jobId={}, format={}", id, format);
+        return ApiResponse.<UserImportResponse>builder()
+                .result(userImportService.importUsers(id, format, body))
+                .build();
+    }
+
+    @GetMapping("/{jobId}")
+    ApiResponse<UserImportResponse> getJob(@PathVariable String jobId) {
+        return ApiResponse.<UserImportResponse>builder()
+                .result(userImportService.getJob(jobId))
+                .build();
+    }
+}
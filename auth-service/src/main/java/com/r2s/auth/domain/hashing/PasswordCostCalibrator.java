@@ -0,0 +1,68 @@
+package com.r2s.auth.domain.hashing;
+
+import com.r2s.core.constants.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt strength whose single hash stays within the latency budget on this host.
+ * Each strength step doubles the work, so one measurement at the minimum strength is extrapolated.
+ */
+@Component
+@Slf4j
+public class PasswordCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private final int fixedStrength;
+    private final int maxStrength;
+    private final Duration targetLatency;
+
+    public PasswordCostCalibrator(
+            @Value("${security.password.strength:0}") int fixedStrength,
+            @Value("${security.password.max-strength:" + SecurityConstants.BCRYPT_MAX_STRENGTH + "}") int maxStrength,
+            @Value("${security.password.target-latency:250ms}") Duration targetLatency
+    ) {
+        this.fixedStrength = fixedStrength;
+        this.maxStrength = Math.min(maxStrength, SecurityConstants.BCRYPT_MAX_STRENGTH);
+        this.targetLatency = targetLatency;
+    }
+
+    public int calibrate() {
+        if (fixedStrength > 0) {
+            log.info("BCrypt strength fixed by configuration: {}", fixedStrength);
+            return fixedStrength;
+        }
+
+        int strength = SecurityConstants.BCRYPT_STRENGTH;
+        long baseline = measure(strength);
+        long budget = targetLatency.toNanos();
+        while (strength < maxStrength && baseline << (strength + 1 - SecurityConstants.BCRYPT_STRENGTH) <= budget) {
+            strength++;
+        }
+
+        log.info("BCrypt strength calibrated: strength={}, baseline={}ms at {}, budget={}",
+                strength,
+                Duration.ofNanos(baseline).toMillis(),
+                SecurityConstants.BCRYPT_STRENGTH,
+                targetLatency);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,147 @@
+package com.r2s.auth.domain.hashing;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool instead of Tomcat request threads.
+ * When the queue is full or the wait exceeds the timeout the caller gets a 503 immediately.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private static final String METRIC_PREFIX = "password.hash";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.hashing.pool-size:0}") int poolSize,
+            @Value("${security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.hashing.timeout:2s}") Duration timeout
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, METRIC_PREFIX, Tags.empty()).bindTo(meterRegistry);
+        log.info("Password hashing pool started: threads={}, queueCapacity={}, timeout={}",
+                threads, queueCapacity, timeout);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encodes a batch in parallel while keeping at most {@link #poolSize()} of its tasks queued,
+     * so a large batch cannot fill the queue that interactive logins share.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = Math.max(1, poolSize());
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>(window);
+        int next = 0;
+        try {
+            while (encoded.size() < rawPasswords.size()) {
+                while (next < rawPasswords.size() && inFlight.size() < window) {
+                    CharSequence rawPassword = rawPasswords.get(next++);
+                    inFlight.add(schedule(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+                }
+                encoded.add(await(inFlight.poll()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return encoded;
+    }
+
+    public int poolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    private <T> T submit(Timer timer, Supplier<T> task) {
+        return await(schedule(timer, task));
+    }
+
+    private <T> Future<T> schedule(Timer timer, Supplier<T> task) {
+        try {
+            return executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing pool saturated, queued={}", executor.getQueue().size());
+            throw new AppException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("Password hashing timed out after {}", timeout);
+            throw new AppException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
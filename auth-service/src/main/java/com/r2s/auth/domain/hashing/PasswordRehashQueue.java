@@ -0,0 +1,102 @@
+package com.r2s.auth.domain.hashing;
+
+import com.r2s.auth.repository.UserJdbcRepository;
+import com.r2s.core.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects users whose stored hash uses outdated parameters at login time and rewrites them
+ * in small batches on the hashing pool, so the login request never pays for the second hash.
+ * Each tick takes at most {@code batch-size} users, which keeps the scheduler thread short and
+ * bounds how long a raw password stays queued; the copy is wiped once it has been hashed.
+ */
+@Component
+@Slf4j
+public class PasswordRehashQueue {
+
+    private final Map<UUID, PendingRehash> pending = new ConcurrentHashMap<>();
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserJdbcRepository userJdbcRepository;
+    private final int capacity;
+    private final int batchSize;
+
+    public PasswordRehashQueue(
+            PasswordEncoder passwordEncoder,
+            PasswordHasher passwordHasher,
+            UserJdbcRepository userJdbcRepository,
+            @Value("${security.password.rehash.capacity:1000}") int capacity,
+            @Value("${security.password.rehash.batch-size:100}") int batchSize
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.userJdbcRepository = userJdbcRepository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public void offer(UUID userId, String rawPassword, String currentHash) {
+        if (pending.size() >= capacity) {
+            return;
+        }
+        pending.computeIfAbsent(userId, id -> new PendingRehash(id, rawPassword.toCharArray(), currentHash));
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.password.rehash.flush-interval:5s}")
+    public void flush() {
+        List<PendingRehash> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<PendingRehash> iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> hashes = passwordHasher.encodeAll(batch.stream()
+                    .map(item -> CharBuffer.wrap(item.rawPassword()))
+                    .toList());
+            List<UserJdbcRepository.PasswordUpdate> updates = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                updates.add(new UserJdbcRepository.PasswordUpdate(
+                        batch.get(i).userId(),
+                        hashes.get(i),
+                        batch.get(i).currentHash()
+                ));
+            }
+            int updated = userJdbcRepository.updatePasswords(updates);
+            log.info("Rehashed outdated passwords: requested={}, updated={}, pending={}",
+                    batch.size(), updated, pending.size());
+        } catch (AppException e) {
+            // Hashing pool busy: the users are offered again on their next login
+            log.warn("Password rehash skipped, hashing pool busy: dropped={}", batch.size());
+        } finally {
+            batch.forEach(item -> Arrays.fill(item.rawPassword(), '\0'));
+        }
+    }
+
+    private record PendingRehash(UUID userId, char[] rawPassword, String currentHash) {
+    }
+}
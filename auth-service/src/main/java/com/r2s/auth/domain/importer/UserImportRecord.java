@@ -0,0 +1,6 @@
+package com.r2s.auth.domain.importer;
+
+import java.util.List;
+
+public record UserImportRecord(String username, String password, List<String> roles, Boolean enabled) {
+}
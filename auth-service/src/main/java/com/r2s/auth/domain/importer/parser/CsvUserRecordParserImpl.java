@@ -0,0 +1,80 @@
+package com.r2s.auth.domain.importer.parser;
+
+import com.r2s.auth.domain.importer.UserImportRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columns: {@code username,password,roles,enabled}; roles are separated by {@code |}.
+ * Fields may be double-quoted, but a record must fit on one line.
+ */
+@Component
+public class CsvUserRecordParserImpl implements UserRecordParser {
+    public static final String FORMAT = "csv";
+
+    private static final int COLUMNS = 4;
+
+    @Override
+    public String format() {
+        return FORMAT;
+    }
+
+    @Override
+    public boolean hasHeader() {
+        return true;
+    }
+
+    @Override
+    public UserImportRecord parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() < 2 || fields.size() > COLUMNS) {
+            throw new IllegalArgumentException("expected " + COLUMNS + " columns");
+        }
+        List<String> roles = new ArrayList<>(2);
+        if (fields.size() > 2) {
+            for (String role : fields.get(2).split("\\|")) {
+                if (!role.isBlank()) {
+                    roles.add(role);
+                }
+            }
+        }
+        Boolean enabled = fields.size() > 3 && !fields.get(3).isBlank()
+                ? Boolean.valueOf(fields.get(3).trim())
+                : null;
+
+        return new UserImportRecord(fields.get(0), fields.get(1), roles, enabled);
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,39 @@
+package com.r2s.auth.domain.importer.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.r2s.auth.domain.importer.UserImportRecord;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NdjsonUserRecordParserImpl implements UserRecordParser {
+    public static final String FORMAT = "ndjson";
+
+    private final ObjectReader reader;
+
+    public NdjsonUserRecordParserImpl(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(UserImportRecord.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public String format() {
+        return FORMAT;
+    }
+
+    @Override
+    public boolean hasHeader() {
+        return false;
+    }
+
+    @Override
+    public UserImportRecord parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed JSON");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.r2s.auth.domain.importer.parser;
+
+import com.r2s.auth.domain.importer.UserImportRecord;
+
+public interface UserRecordParser {
+    String format();
+    boolean hasHeader();
+    UserImportRecord parse(String line);
+}
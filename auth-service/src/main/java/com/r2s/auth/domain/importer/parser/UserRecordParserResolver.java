@@ -0,0 +1,29 @@
+package com.r2s.auth.domain.importer.parser;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class UserRecordParserResolver {
+    private final Map<String, UserRecordParser> parsers;
+
+    public UserRecordParserResolver(List<UserRecordParser> parsers) {
+        this.parsers = parsers.stream()
+                .collect(Collectors.toUnmodifiableMap(UserRecordParser::format, Function.identity()));
+    }
+
+    public UserRecordParser resolve(String format) {
+        UserRecordParser parser = format == null ? null : parsers.get(format.toLowerCase(Locale.ROOT));
+        if (parser == null) {
+            throw new AppException(ErrorCode.IMPORT_FORMAT_INVALID);
+        }
+        return parser;
+    }
+}
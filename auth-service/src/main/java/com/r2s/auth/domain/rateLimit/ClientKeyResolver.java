@@ -1,16 +0,0 @@
-package com.r2s.auth.domain.rateLimit;
-
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.stereotype.Component;
-
-@Component
-public class ClientKeyResolver {
-
-    public String resolve(HttpServletRequest request) {
-        String auth = request.getHeader("Authorization");
-        if (auth != null && auth.startsWith("Bearer ")) {
-            return auth.substring(7);
-        }
-        return request.getRemoteAddr();
-    }
-}
\ No newline at end of file
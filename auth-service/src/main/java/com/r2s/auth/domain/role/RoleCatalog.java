@@ -0,0 +1,88 @@
+package com.r2s.auth.domain.role;
+
+import com.r2s.auth.entity.Role;
+import com.r2s.auth.repository.UserRoleRepository;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.r2s.core.constants.RolePrefix.ROLE;
+
+/**
+ * Immutable snapshot of the {@code roles} table, loaded at startup and swapped on {@link #refresh()}.
+ * Besides canonical names it indexes every request alias that the normalizers map onto a known role
+ * (e.g. {@code admin} for {@code ROLE_ADMIN}), so resolving a requested role is a single map lookup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleCatalog {
+    private final UserRoleRepository userRoleRepository;
+    private final RoleNormalizerResolver roleNormalizerResolver;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    @PostConstruct
+    public void refresh() {
+        List<Role> roles = userRoleRepository.findAll();
+        Map<String, Role> byName = new HashMap<>(roles.size() * 2);
+        Map<String, Role> byAlias = new HashMap<>(roles.size() * 4);
+        for (Role role : roles) {
+            byName.put(role.getName(), role);
+            addAlias(byAlias, role, role.getName());
+            if (role.getName().startsWith(ROLE)) {
+                addAlias(byAlias, role, role.getName().substring(ROLE.length()));
+            }
+        }
+        snapshot = new Snapshot(Map.copyOf(byName), Map.copyOf(byAlias));
+        log.info("Role catalog loaded: {} roles", byName.size());
+    }
+
+    public Role require(String name) {
+        Role role = snapshot.byName().get(name);
+        if (role == null) {
+            throw new AppException(ErrorCode.ROLE_NOT_FOUND);
+        }
+        return role;
+    }
+
+    /**
+     * Resolves a role as sent by a client; returns {@code null} for a blank request.
+     */
+    public Role resolve(String requestedRole) {
+        if (requestedRole == null || requestedRole.isBlank()) {
+            return null;
+        }
+        Role role = snapshot.byAlias().get(requestedRole.trim().toUpperCase(Locale.ROOT));
+        if (role == null) {
+            throw new AppException(ErrorCode.ROLE_NOT_FOUND);
+        }
+        return role;
+    }
+
+    public Set<String> names() {
+        return snapshot.byName().keySet();
+    }
+
+    private void addAlias(Map<String, Role> byAlias, Role role, String alias) {
+        try {
+            if (role.getName().equals(roleNormalizerResolver.normalize(alias))) {
+                byAlias.put(alias, role);
+            }
+        } catch (AppException e) {
+            log.debug("Role alias {} is rejected by the normalizers", alias);
+        }
+    }
+
+    private record Snapshot(Map<String, Role> byName, Map<String, Role> byAlias) {
+    }
+}
@@ -4,6 +4,7 @@ import com.r2s.auth.repository.UserRepository;
 import com.r2s.core.dto.request.RegisterRequest;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,10 +13,17 @@ import org.springframework.stereotype.Component;
 public class UserValidation {
 
     private final UserRepository userRepository;
+    private final Validator validator;
 
     public void validateRegister(RegisterRequest request) {
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
             throw new AppException(ErrorCode.USER_EXISTS);
         }
     }
-}
\ No newline at end of file
+
+    public void validateBulkItem(RegisterRequest request) {
+        if (request == null || !validator.validate(request).isEmpty()) {
+            throw new AppException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.r2s.auth.repository;
+
+import com.r2s.auth.domain.importer.UserImportRecord;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads import chunks through {@code COPY} into per-transaction staging tables and merges them
+ * into {@code users}/{@code user_roles} with one statement. The job checkpoint advances in the same
+ * transaction, so a chunk is either fully merged and recorded or not at all. Each chunk always commits
+ * on its own, which is also what drops the {@code ON COMMIT DROP} staging tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserImportJdbcRepository {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String CREATE_USERS_STAGING =
+            "CREATE TEMP TABLE import_users "
+                    + "(position INT, username VARCHAR(50), password VARCHAR(255), enabled BOOLEAN) ON COMMIT DROP";
+    private static final String CREATE_USER_ROLES_STAGING =
+            "CREATE TEMP TABLE import_user_roles (position INT, role_name VARCHAR(50)) "
+                    + "ON COMMIT DROP";
+    private static final String COPY_USERS =
+            "COPY import_users (position, username, password, enabled) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_USER_ROLES =
+            "COPY import_user_roles (position, role_name) FROM STDIN WITH (FORMAT csv)";
+    // the first line of a username within the chunk wins, together with its own roles
+    private static final String MERGE = """
+            WITH firsts AS (
+                SELECT DISTINCT ON (username) position, username, password, enabled
+                FROM import_users
+                ORDER BY username, position
+            ), inserted AS (
+                INSERT INTO users (id, username, password, enabled, created_at)
+                SELECT gen_random_uuid(), f.username, f.password, f.enabled, now()
+                FROM firsts f
+                ON CONFLICT (username) DO NOTHING
+                RETURNING id, username
+            ), linked AS (
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT DISTINCT i.id, r.id
+                FROM inserted i
+                JOIN firsts f ON f.username = i.username
+                JOIN import_user_roles s ON s.position = f.position
+                JOIN roles r ON r.name = s.role_name
+                RETURNING 1
+            )
+            SELECT count(*) FROM inserted
+            """;
+
+    private static final String START_JOB = """
+            INSERT INTO user_import_jobs (job_id, format, status)
+            VALUES (?, ?, 'RUNNING')
+            ON CONFLICT (job_id) DO UPDATE SET status = 'RUNNING', updated_at = now()
+            RETURNING job_id, format, status, lines_committed, imported, skipped, rejected
+            """;
+    private static final String ADVANCE_JOB = """
+            UPDATE user_import_jobs
+            SET lines_committed = lines_committed + ?, imported = imported + ?,
+                skipped = skipped + ?, rejected = rejected + ?, updated_at = now()
+            WHERE job_id = ?
+            """;
+    private static final String FINISH_JOB =
+            "UPDATE user_import_jobs SET status = ?, updated_at = now() WHERE job_id = ?";
+    private static final String FIND_JOB =
+            "SELECT job_id, format, status, lines_committed, imported, skipped, rejected "
+                    + "FROM user_import_jobs WHERE job_id = ?";
+
+    private static final RowMapper<ImportJob> JOB_MAPPER = (rs, rowNum) -> new ImportJob(
+            rs.getString("job_id"),
+            rs.getString("format"),
+            rs.getString("status"),
+            rs.getLong("lines_committed"),
+            rs.getLong("imported"),
+            rs.getLong("skipped"),
+            rs.getLong("rejected")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImportJob startJob(String jobId, String format) {
+        return jdbcTemplate.queryForObject(START_JOB, JOB_MAPPER, jobId, format);
+    }
+
+    public Optional<ImportJob> findJob(String jobId) {
+        return jdbcTemplate.query(FIND_JOB, JOB_MAPPER, jobId).stream().findFirst();
+    }
+
+    public void finishJob(String jobId, String status) {
+        jdbcTemplate.update(FINISH_JOB, status, jobId);
+    }
+
+    /**
+     * @param records   validated records with normalized role names
+     * @param lines     input lines consumed by this chunk, including rejected and blank ones
+     * @param rejected  lines of this chunk that failed validation
+     * @return number of users inserted; the rest of {@code records} already existed
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long mergeChunk(String jobId, List<UserImportRecord> records, long lines, long rejected) {
+        long imported = 0;
+        if (!records.isEmpty()) {
+            jdbcTemplate.execute(CREATE_USERS_STAGING);
+            jdbcTemplate.execute(CREATE_USER_ROLES_STAGING);
+            copy(records);
+            Long count = jdbcTemplate.queryForObject(MERGE, Long.class);
+            imported = count == null ? 0 : count;
+        }
+        jdbcTemplate.update(ADVANCE_JOB, lines, imported, records.size() - imported, rejected, jobId);
+        return imported;
+    }
+
+    private void copy(List<UserImportRecord> records) {
+        StringBuilder users = new StringBuilder(records.size() * 96);
+        StringBuilder roles = new StringBuilder(records.size() * 32);
+        for (int position = 0; position < records.size(); position++) {
+            UserImportRecord record = records.get(position);
+            users.append(position).append(',');
+            appendField(users, record.username()).append(',');
+            appendField(users, record.password()).append(',');
+            users.append(record.enabled() == null || record.enabled()).append('\n');
+            for (String role : record.roles()) {
+                roles.append(position).append(',');
+                appendField(roles, role).append('\n');
+            }
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_USERS, new StringReader(users.toString()));
+                copyManager.copyIn(COPY_USER_ROLES, new StringReader(roles.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    private static StringBuilder appendField(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+
+    public record ImportJob(
+            String jobId,
+            String format,
+            String status,
+            long linesCommitted,
+            long imported,
+            long skipped,
+            long rejected
+    ) {
+    }
+}
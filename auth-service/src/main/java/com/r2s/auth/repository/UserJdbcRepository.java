@@ -0,0 +1,96 @@
+package com.r2s.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based writes on {@code users} that would cost one statement per row through JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String UPDATE_PASSWORD =
+            "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, username, password, enabled, created_at) VALUES (?, ?, ?, TRUE, ?) "
+                    + "ON CONFLICT (username) DO NOTHING";
+    private static final String INSERT_USER_ROLE =
+            "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts users and their role links as two JDBC batches in one transaction.
+     * Usernames taken concurrently are skipped rather than failing the batch; the returned list holds
+     * the ids that were actually inserted.
+     */
+    @Transactional
+    public List<UUID> insertUsers(List<NewUser> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.id());
+            ps.setString(2, user.username());
+            ps.setString(3, user.password());
+            ps.setTimestamp(4, createdAt);
+        });
+
+        List<UUID> inserted = new ArrayList<>(users.size());
+        List<Object[]> links = new ArrayList<>(users.size() * 2);
+        int row = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                NewUser user = users.get(row++);
+                if (count == 0) {
+                    continue;
+                }
+                inserted.add(user.id());
+                for (Integer roleId : user.roleIds()) {
+                    links.add(new Object[]{user.id(), roleId});
+                }
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER_ROLE, links);
+        }
+        return inserted;
+    }
+
+    /**
+     * Only rows still holding the hash that was verified are rewritten, so a concurrent change wins.
+     */
+    public int updatePasswords(List<PasswordUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PASSWORD, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.newHash());
+            ps.setObject(2, update.userId());
+            ps.setString(3, update.oldHash());
+        });
+        return Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+
+    public record NewUser(UUID id, String username, String password, Set<Integer> roleIds) {
+    }
+
+    public record PasswordUpdate(UUID userId, String newHash, String oldHash) {
+    }
+}
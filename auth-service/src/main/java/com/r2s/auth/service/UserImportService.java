@@ -0,0 +1,11 @@
+package com.r2s.auth.service;
+
+import com.r2s.core.dto.response.UserImportResponse;
+
+import java.io.InputStream;
+
+public interface UserImportService {
+    UserImportResponse importUsers(String jobId, String format, InputStream input);
+
+    UserImportResponse getJob(String jobId);
+}
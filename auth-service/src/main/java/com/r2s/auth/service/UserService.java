@@ -1,10 +1,14 @@
 package com.r2s.auth.service;
 
+import com.r2s.core.dto.request.BulkRegisterRequest;
 import com.r2s.core.dto.request.RegisterRequest;
+import com.r2s.core.dto.response.BulkRegisterResponse;
 import com.r2s.core.dto.response.UserResponse;
 
 public interface UserService {
     String register(RegisterRequest request);
 
+    BulkRegisterResponse registerBulk(BulkRegisterRequest request);
+
     UserResponse getMe();
 }
\ No newline at end of file
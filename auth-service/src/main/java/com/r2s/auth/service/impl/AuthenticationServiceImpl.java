@@ -7,7 +7,10 @@ import com.r2s.auth.mapper.UserMapper;
 import com.r2s.auth.repository.UserRepository;
 import com.r2s.auth.service.AuthenticationService;
 import com.r2s.auth.token.JwtToken;
+import com.r2s.auth.token.RefreshToken;
+import com.r2s.auth.token.RefreshTokenSession;
 import com.r2s.core.dto.request.LoginRequest;
+import com.r2s.core.dto.request.RefreshTokenRequest;
 import com.r2s.core.dto.response.IntrospectResponse;
 import com.r2s.core.dto.response.TokenResponse;
 import com.r2s.core.exception.AppException;
@@ -26,6 +29,7 @@ import java.util.UUID;
 @Slf4j
 public class AuthenticationServiceImpl implements AuthenticationService {
     JwtToken jwtToken;
+    RefreshToken refreshToken;
     AuthenticationValidation authenticationValidation;
     SecurityContextHelper securityContextHelper;
     UserRepository userRepository;
@@ -34,13 +38,32 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public TokenResponse login(LoginRequest request) {
         User user = authenticationValidation.validateLogin(request);
         log.info("Login success with username: {}", request.getUsername());
-        return jwtToken.generateToken(user);
+        TokenResponse response = jwtToken.generateToken(user);
+        response.setRefreshToken(refreshToken.issue(user));
+
+        return response;
+    }
+
+    @Override
+    public TokenResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenSession session = refreshToken.consume(request.getRefreshToken());
+        User user = userRepository.findWithRolesById(session.getUserId())
+                .filter(current -> !Boolean.FALSE.equals(current.getEnabled()))
+                .orElseThrow(() -> {
+                    log.warn("Refresh rejected, user missing or disabled: userId={}", session.getUserId());
+                    return new AppException(ErrorCode.REFRESH_TOKEN_INVALID);
+                });
+        TokenResponse response = jwtToken.generateToken(user);
+        response.setRefreshToken(refreshToken.rotate(session, user));
+        log.info("Token refreshed: userId={}", session.getUserId());
+
+        return response;
     }
 
     @Override
     public IntrospectResponse introspect() {
         UUID userId = securityContextHelper.getCurrentUserId();
-        User user = userRepository.findById(userId)
+        User user = userRepository.findWithRolesById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
         return UserMapper.toIntrospectResponse(user);
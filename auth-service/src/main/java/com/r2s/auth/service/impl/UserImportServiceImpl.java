@@ -0,0 +1,262 @@
+package com.r2s.auth.service.impl;
+
+import com.r2s.auth.domain.importer.UserImportRecord;
+import com.r2s.auth.domain.importer.parser.UserRecordParser;
+import com.r2s.auth.domain.importer.parser.UserRecordParserResolver;
+import com.r2s.auth.domain.role.RoleCatalog;
+import com.r2s.auth.domain.role.RoleNormalizerResolver;
+import com.r2s.auth.repository.UserImportJdbcRepository;
+import com.r2s.auth.repository.UserImportJdbcRepository.ImportJob;
+import com.r2s.auth.service.UserImportService;
+import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.constants.SecurityConstants;
+import com.r2s.core.dto.response.UserImportResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Streams the input line by line and hands fixed-size chunks to {@link UserImportJdbcRepository}.
+ * A re-run with the same job id skips the lines already committed, so a failed import is resumed
+ * by re-sending the same file.
+ */
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final String METRIC_PREFIX = "user.import";
+    private static final int MIN_USERNAME = 3;
+    private static final int MAX_USERNAME = 50;
+    private static final int MAX_PASSWORD = 255;
+    // user_import_jobs.job_id is VARCHAR(64)
+    private static final int MAX_JOB_ID = 64;
+    private static final String BCRYPT_PREFIX = "{" + SecurityConstants.ENCODER_BCRYPT + "}";
+    private static final String PBKDF2_PREFIX = "{" + SecurityConstants.ENCODER_PBKDF2 + "}";
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$(0[4-9]|[12][0-9]|3[01])\\$[./0-9A-Za-z]{53}");
+    // 16-byte salt + 256-bit hash, hex encoded, as Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8 writes it
+    private static final Pattern PBKDF2_HASH = Pattern.compile("[0-9a-f]{96}");
+
+    private final UserImportJdbcRepository userImportJdbcRepository;
+    private final UserRecordParserResolver userRecordParserResolver;
+    private final RoleNormalizerResolver roleNormalizerResolver;
+    private final RoleCatalog roleCatalog;
+    private final int chunkSize;
+    private final int maxRejectionsReported;
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Counter rejectedCounter;
+    private final Timer chunkTimer;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public UserImportServiceImpl(
+            UserImportJdbcRepository userImportJdbcRepository,
+            UserRecordParserResolver userRecordParserResolver,
+            RoleNormalizerResolver roleNormalizerResolver,
+            RoleCatalog roleCatalog,
+            MeterRegistry meterRegistry,
+            @Value("${user-import.chunk-size:10000}") int chunkSize,
+            @Value("${user-import.max-rejections-reported:100}") int maxRejectionsReported
+    ) {
+        this.userImportJdbcRepository = userImportJdbcRepository;
+        this.userRecordParserResolver = userRecordParserResolver;
+        this.roleNormalizerResolver = roleNormalizerResolver;
+        this.roleCatalog = roleCatalog;
+        this.chunkSize = chunkSize;
+        this.maxRejectionsReported = maxRejectionsReported;
+        this.importedCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("outcome", "imported").register(meterRegistry);
+        this.skippedCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("outcome", "skipped").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("outcome", "rejected").register(meterRegistry);
+        this.chunkTimer = Timer.builder(METRIC_PREFIX + ".chunk").register(meterRegistry);
+    }
+
+    @Override
+    public UserImportResponse importUsers(String jobId, String format, InputStream input) {
+        if (jobId == null || jobId.isBlank() || jobId.length() > MAX_JOB_ID) {
+            throw new AppException(ErrorCode.IMPORT_JOB_ID_INVALID);
+        }
+        UserRecordParser parser = userRecordParserResolver.resolve(format);
+        if (!runningJobs.add(jobId)) {
+            throw new AppException(ErrorCode.IMPORT_JOB_RUNNING);
+        }
+        try {
+            return run(jobId, parser, input);
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    @Override
+    public UserImportResponse getJob(String jobId) {
+        ImportJob job = userImportJdbcRepository.findJob(jobId)
+                .orElseThrow(() -> new AppException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+        return toResponse(job);
+    }
+
+    private UserImportResponse run(String jobId, UserRecordParser parser, InputStream input) {
+        ImportJob job = userImportJdbcRepository.startJob(jobId, parser.format());
+        long resumeAfter = job.linesCommitted();
+        long started = System.nanoTime();
+        List<String> rejections = new ArrayList<>();
+        List<UserImportRecord> chunk = new ArrayList<>(chunkSize);
+        long line = 0;
+        long chunkLines = 0;
+        long chunkRejected = 0;
+        long processed = 0;
+        log.info("User import {} started: format={}, resumeAfterLine={}", jobId, parser.format(), resumeAfter);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (parser.hasHeader()) {
+                reader.readLine();
+            }
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (++line <= resumeAfter) {
+                    continue;
+                }
+                chunkLines++;
+                if (!text.isBlank()) {
+                    String rejection = accept(parser, text, chunk);
+                    if (rejection != null) {
+                        chunkRejected++;
+                        if (rejections.size() < maxRejectionsReported) {
+                            rejections.add("line " + line + ": " + rejection);
+                        }
+                    }
+                }
+                if (chunkLines >= chunkSize) {
+                    flush(jobId, chunk, chunkLines, chunkRejected, resumeAfter, processed + chunkLines, started);
+                    processed += chunkLines;
+                    chunkLines = 0;
+                    chunkRejected = 0;
+                }
+            }
+            if (chunkLines > 0) {
+                flush(jobId, chunk, chunkLines, chunkRejected, resumeAfter, processed + chunkLines, started);
+                processed += chunkLines;
+            }
+        } catch (IOException e) {
+            fail(jobId, resumeAfter + processed, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            fail(jobId, resumeAfter + processed, e);
+            throw e;
+        }
+
+        userImportJdbcRepository.finishJob(jobId, UserImportJdbcRepository.STATUS_COMPLETED);
+        long elapsedNanos = System.nanoTime() - started;
+        UserImportResponse response = getJob(jobId);
+        response.setElapsedMillis(elapsedNanos / 1_000_000);
+        response.setRowsPerSecond(rate(processed, elapsedNanos));
+        response.setRejections(rejections);
+        log.info("User import {} completed: lines={}, imported={}, skipped={}, rejected={}, {} rows/s",
+                jobId, response.getLinesProcessed(), response.getImported(), response.getSkipped(),
+                response.getRejected(), Math.round(response.getRowsPerSecond()));
+
+        return response;
+    }
+
+    private void flush(String jobId, List<UserImportRecord> chunk, long lines, long rejected,
+                       long resumeAfter, long processed, long started) {
+        long imported = chunkTimer.record(() -> userImportJdbcRepository.mergeChunk(jobId, chunk, lines, rejected));
+        importedCounter.increment(imported);
+        skippedCounter.increment(chunk.size() - imported);
+        rejectedCounter.increment(rejected);
+        chunk.clear();
+
+        log.info("User import {} progress: lines={}, chunkImported={}, chunkRejected={}, {} rows/s",
+                jobId, resumeAfter + processed, imported, rejected,
+                Math.round(rate(processed, System.nanoTime() - started)));
+    }
+
+    private void fail(String jobId, long committedLines, Exception e) {
+        userImportJdbcRepository.finishJob(jobId, UserImportJdbcRepository.STATUS_FAILED);
+        log.error("User import {} failed, committed through line {}", jobId, committedLines, e);
+    }
+
+    /**
+     * @return the rejection reason, or {@code null} when the record was added to the chunk
+     */
+    private String accept(UserRecordParser parser, String text, List<UserImportRecord> chunk) {
+        UserImportRecord record;
+        try {
+            record = parser.parse(text);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        String username = record.username() == null ? "" : record.username().trim();
+        if (username.length() < MIN_USERNAME || username.length() > MAX_USERNAME) {
+            return "username must be between " + MIN_USERNAME + " and " + MAX_USERNAME + " characters";
+        }
+        String password = record.password();
+        if (password == null || password.length() > MAX_PASSWORD || !isSupportedHash(password)) {
+            return "password must be a BCrypt, {bcrypt} or {pbkdf2} hash";
+        }
+
+        Set<String> roles = new LinkedHashSet<>();
+        roles.add(RoleConstants.ROLE_USER);
+        if (record.roles() != null) {
+            for (String role : record.roles()) {
+                String normalized;
+                try {
+                    normalized = roleNormalizerResolver.normalize(role);
+                } catch (AppException e) {
+                    return "unknown role " + role;
+                }
+                if (normalized != null) {
+                    if (!roleCatalog.names().contains(normalized)) {
+                        return "unknown role " + role;
+                    }
+                    roles.add(normalized);
+                }
+            }
+        }
+
+        chunk.add(new UserImportRecord(username, password, List.copyOf(roles), record.enabled()));
+        return null;
+    }
+
+    /**
+     * Accepts only hashes the login {@code DelegatingPasswordEncoder} can verify, so an imported user never
+     * hits an unmapped {@code {id}} at login and nothing is stored as {@code {noop}} plaintext.
+     */
+    private static boolean isSupportedHash(String password) {
+        if (password.startsWith(BCRYPT_PREFIX)) {
+            return BCRYPT_HASH.matcher(password.substring(BCRYPT_PREFIX.length())).matches();
+        }
+        if (password.startsWith(PBKDF2_PREFIX)) {
+            return PBKDF2_HASH.matcher(password.substring(PBKDF2_PREFIX.length())).matches();
+        }
+        return BCRYPT_HASH.matcher(password).matches();
+    }
+
+    private static double rate(long rows, long elapsedNanos) {
+        return elapsedNanos <= 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    private static UserImportResponse toResponse(ImportJob job) {
+        return UserImportResponse.builder()
+                .jobId(job.jobId())
+                .status(job.status())
+                .linesProcessed(job.linesCommitted())
+                .imported(job.imported())
+                .skipped(job.skipped())
+                .rejected(job.rejected())
+                .build();
+    }
+}
@@ -1,17 +1,22 @@
 package com.r2s.auth.service.impl;
 
+import com.r2s.auth.domain.hashing.PasswordHasher;
 import com.r2s.auth.domain.helper.SecurityContextHelper;
-import com.r2s.auth.domain.role.RoleNormalizerResolver;
+import com.r2s.auth.domain.role.RoleCatalog;
 import com.r2s.auth.domain.validation.user.UserValidation;
 import com.r2s.auth.entity.Role;
 import com.r2s.auth.entity.User;
 import com.r2s.auth.domain.factory.UserFactory;
 import com.r2s.auth.mapper.UserMapper;
+import com.r2s.auth.repository.UserJdbcRepository;
+import com.r2s.auth.repository.UserJdbcRepository.NewUser;
 import com.r2s.auth.repository.UserRepository;
-import com.r2s.auth.repository.UserRoleRepository;
 import com.r2s.auth.service.UserService;
 import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.dto.request.BulkRegisterRequest;
 import com.r2s.core.dto.request.RegisterRequest;
+import com.r2s.core.dto.response.BulkRegisterResponse;
+import com.r2s.core.dto.response.BulkRegisterResult;
 import com.r2s.core.dto.response.UserResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
@@ -19,12 +24,9 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -32,23 +34,19 @@ import java.util.UUID;
 @Slf4j
 public class UserServiceImpl implements UserService {
     UserRepository userRepository;
-    UserRoleRepository userRoleRepository;
-    PasswordEncoder passwordEncoder;
+    UserJdbcRepository userJdbcRepository;
+    PasswordHasher passwordHasher;
     UserFactory userFactory;
-    RoleNormalizerResolver roleNormalizerResolver;
+    RoleCatalog roleCatalog;
     UserValidation userValidation;
     SecurityContextHelper securityContextHelper;
 
     private Set<Role> assignRoles(RegisterRequest request) {
         Set<Role> roles = new HashSet<>();
-        Role userRole = userRoleRepository.findByName(RoleConstants.ROLE_USER)
-                .orElseThrow(() -> new AppException(ErrorCode.ROLE_NOT_FOUND));
-        roles.add(userRole);
-        String normalizedRole = roleNormalizerResolver.normalize(request.getRole());
-        if (normalizedRole != null) {
-            Role role = userRoleRepository.findByName(normalizedRole)
-                    .orElseThrow(() -> new AppException(ErrorCode.ROLE_NOT_FOUND));
-            roles.add(role);
+        roles.add(roleCatalog.require(RoleConstants.ROLE_USER));
+        Role requestedRole = roleCatalog.resolve(request.getRole());
+        if (requestedRole != null) {
+            roles.add(requestedRole);
         }
 
         return roles;
@@ -57,7 +55,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public String register(RegisterRequest request) {
         userValidation.validateRegister(request);
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         Set<Role> roles = assignRoles(request);
         User user = userFactory.create(request, roles, encodedPassword);
         userRepository.save(user);
@@ -66,10 +64,90 @@ public class UserServiceImpl implements UserService {
         return "User created with id: " + user.getId();
     }
 
+    @Override
+    public BulkRegisterResponse registerBulk(BulkRegisterRequest request) {
+        List<RegisterRequest> users = request.getUsers();
+        BulkRegisterResult[] results = new BulkRegisterResult[users.size()];
+        Map<String, Integer> accepted = new LinkedHashMap<>();
+        Map<Integer, Set<Integer>> roleIds = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            RegisterRequest user = users.get(i);
+            try {
+                userValidation.validateBulkItem(user);
+                if (accepted.containsKey(user.getUsername())) {
+                    throw new AppException(ErrorCode.USER_EXISTS);
+                }
+                Set<Integer> ids = new HashSet<>();
+                for (Role role : assignRoles(user)) {
+                    ids.add(role.getId());
+                }
+                roleIds.put(i, ids);
+                accepted.put(user.getUsername(), i);
+            } catch (AppException e) {
+                results[i] = failure(i, user, e.getErrorCode());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            for (String username : userRepository.findExistingUsernames(accepted.keySet())) {
+                int i = accepted.remove(username);
+                results[i] = failure(i, users.get(i), ErrorCode.USER_EXISTS);
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(accepted.values());
+        List<String> passwords = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            passwords.add(users.get(i).getPassword());
+        }
+        List<String> hashes = passwordHasher.encodeAll(passwords);
+
+        List<NewUser> rows = new ArrayList<>(indexes.size());
+        for (int n = 0; n < indexes.size(); n++) {
+            int i = indexes.get(n);
+            rows.add(new NewUser(UUID.randomUUID(), users.get(i).getUsername(), hashes.get(n), roleIds.get(i)));
+        }
+        Set<UUID> inserted = new HashSet<>(userJdbcRepository.insertUsers(rows));
+
+        int created = 0;
+        for (int n = 0; n < rows.size(); n++) {
+            int i = indexes.get(n);
+            NewUser row = rows.get(n);
+            if (inserted.contains(row.id())) {
+                created++;
+                results[i] = BulkRegisterResult.builder()
+                        .index(i)
+                        .username(row.username())
+                        .created(true)
+                        .id(row.id())
+                        .build();
+            } else {
+                results[i] = failure(i, users.get(i), ErrorCode.USER_EXISTS);
+            }
+        }
+        log.info("Bulk registration finished: requested={}, created={}", users.size(), created);
+
+        return BulkRegisterResponse.builder()
+                .created(created)
+                .failed(users.size() - created)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private BulkRegisterResult failure(int index, RegisterRequest user, ErrorCode errorCode) {
+        return BulkRegisterResult.builder()
+                .index(index)
+                .username(user == null ? null : user.getUsername())
+                .created(false)
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+    }
+
     @Override
     public UserResponse getMe() {
         UUID userId = securityContextHelper.getCurrentUserId();
-        User user = userRepository.findById(userId)
+        User user = userRepository.findWithRolesById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
         log.info("Get user successfully: userId={}", userId);
@@ -0,0 +1,11 @@
+package com.r2s.auth.token;
+
+import com.r2s.auth.entity.User;
+
+public interface RefreshToken {
+    String issue(User user);
+
+    String rotate(RefreshTokenSession session, User user);
+
+    RefreshTokenSession consume(String refreshToken);
+}
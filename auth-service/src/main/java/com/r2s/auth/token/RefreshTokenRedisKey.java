@@ -0,0 +1,20 @@
+package com.r2s.auth.token;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class RefreshTokenRedisKey {
+    public String token(String tokenHash) {
+        return "refresh_token:" + tokenHash;
+    }
+
+    public String used(String tokenHash) {
+        return "refresh_token:used:" + tokenHash;
+    }
+
+    public String family(UUID familyId) {
+        return "refresh_token:family:" + familyId;
+    }
+}
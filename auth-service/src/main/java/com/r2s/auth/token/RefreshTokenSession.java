@@ -0,0 +1,27 @@
+package com.r2s.auth.token;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Refresh state kept in Redis. Username and roles are read from the database on refresh, so entries written
+ * while they were still stored here are read with those fields ignored.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RefreshTokenSession implements Serializable {
+    UUID userId;
+    UUID familyId;
+    /**
+     * Epoch millis after which the family is dead; set at login and never extended by rotation.
+     */
+    Long familyExpiresAt;
+}
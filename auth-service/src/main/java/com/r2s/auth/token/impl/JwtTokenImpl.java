@@ -1,7 +1,6 @@
 package com.r2s.auth.token.impl;
 
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.r2s.auth.entity.Role;
 import com.r2s.auth.entity.User;
@@ -9,6 +8,7 @@ import com.r2s.auth.token.JwtToken;
 import com.r2s.core.dto.response.TokenResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.security.JwtKeyring;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -26,9 +26,7 @@ import java.util.stream.Collectors;
 public class JwtTokenImpl implements JwtToken {
 
     private final JwtDecoder jwtDecoder;
-
-    @Value("${jwt.signerKey}")
-    private String SIGNER_KEY;
+    private final JwtKeyring jwtKeyring;
 
     @Value("${jwt.expiry}")
     private long EXPIRY;
@@ -36,7 +34,10 @@ public class JwtTokenImpl implements JwtToken {
     @Override
     public TokenResponse generateToken(User user) {
         try {
-            JWSHeader header = new JWSHeader(JWSAlgorithm.HS512);
+            JwtKeyring.Key key = jwtKeyring.activeKey();
+            JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.HS512)
+                    .keyID(key.id())
+                    .build();
             JWTClaimsSet claims = new JWTClaimsSet.Builder()
                     .subject(user.getId().toString())
                     .issuer("r2s")
@@ -55,11 +56,11 @@ public class JwtTokenImpl implements JwtToken {
             Payload payload = new Payload(claims.toJSONObject());
             JWSObject object = new JWSObject(header, payload);
 
-            object.sign(new MACSigner(SIGNER_KEY.getBytes()));
+            object.sign(key.signer());
 
-            return new TokenResponse(
-                    object.serialize()
-            );
+            return TokenResponse.builder()
+                    .token(object.serialize())
+                    .build();
         } catch (JOSEException e) {
             throw new AppException(ErrorCode.TOKEN_GENERATION_FAILED);
         }
@@ -0,0 +1,131 @@
+package com.r2s.auth.token.impl;
+
+import com.r2s.auth.entity.User;
+import com.r2s.auth.token.RefreshToken;
+import com.r2s.auth.token.RefreshTokenRedisKey;
+import com.r2s.auth.token.RefreshTokenSession;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens: only the SHA-256 of the token is stored in Redis.
+ * Each token belongs to a family; presenting an already rotated token revokes the whole family.
+ * A family lives for {@code jwt.refreshExpiry} from login no matter how often it rotates.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenImpl implements RefreshToken {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RedisTemplate<String, Object> redis;
+    private final RefreshTokenRedisKey redisKey;
+
+    @Value("${jwt.refreshExpiry}")
+    private long REFRESH_EXPIRY;
+
+    @Override
+    public String issue(User user) {
+        long familyExpiresAt = Instant.now().plus(Duration.ofMinutes(REFRESH_EXPIRY)).toEpochMilli();
+        return issue(session(user, UUID.randomUUID(), familyExpiresAt));
+    }
+
+    /**
+     * Carries the family and its absolute expiry over to the reloaded user.
+     */
+    @Override
+    public String rotate(RefreshTokenSession session, User user) {
+        return issue(session(user, session.getFamilyId(), session.getFamilyExpiresAt()));
+    }
+
+    private String issue(RefreshTokenSession session) {
+        Duration ttl = remaining(session);
+        if (ttl.isZero()) {
+            throw new AppException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        byte[] random = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(random);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        String tokenHash = hash(refreshToken);
+
+        redis.opsForValue().set(redisKey.token(tokenHash), session, ttl);
+        redis.opsForValue().set(redisKey.family(session.getFamilyId()), tokenHash, ttl);
+
+        return refreshToken;
+    }
+
+    @Override
+    public RefreshTokenSession consume(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        Object session = redis.opsForValue().getAndDelete(redisKey.token(tokenHash));
+
+        if (session instanceof RefreshTokenSession current) {
+            // Sessions stored before the absolute expiry existed get one last full window
+            if (current.getFamilyExpiresAt() == null) {
+                current.setFamilyExpiresAt(Instant.now().plus(Duration.ofMinutes(REFRESH_EXPIRY)).toEpochMilli());
+            }
+            Duration ttl = remaining(current);
+            if (ttl.isZero()) {
+                throw new AppException(ErrorCode.REFRESH_TOKEN_INVALID);
+            }
+            redis.opsForValue().set(redisKey.used(tokenHash), current.getFamilyId().toString(), ttl);
+            return current;
+        }
+
+        Object familyId = redis.opsForValue().get(redisKey.used(tokenHash));
+        if (familyId != null) {
+            revokeFamily(UUID.fromString(familyId.toString()));
+            throw new AppException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+
+        throw new AppException(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    private void revokeFamily(UUID familyId) {
+        Object currentHash = redis.opsForValue().getAndDelete(redisKey.family(familyId));
+        if (currentHash != null) {
+            redis.delete(redisKey.token(currentHash.toString()));
+        }
+        log.warn("Refresh token reuse detected, family revoked: familyId={}", familyId);
+    }
+
+    private static RefreshTokenSession session(User user, UUID familyId, Long familyExpiresAt) {
+        return RefreshTokenSession.builder()
+                .userId(user.getId())
+                .familyId(familyId)
+                .familyExpiresAt(familyExpiresAt)
+                .build();
+    }
+
+    private static Duration remaining(RefreshTokenSession session) {
+        Duration remaining = Duration.between(Instant.now(), Instant.ofEpochMilli(session.getFamilyExpiresAt()));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
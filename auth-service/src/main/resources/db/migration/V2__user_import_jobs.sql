@@ -0,0 +1,11 @@
+CREATE TABLE user_import_jobs (
+    job_id VARCHAR(64) PRIMARY KEY,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    lines_committed BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    skipped BIGINT NOT NULL DEFAULT 0,
+    rejected BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
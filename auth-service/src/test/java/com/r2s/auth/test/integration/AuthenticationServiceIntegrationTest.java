@@ -2,22 +2,44 @@ package com.r2s.auth.test.integration;
 
 import com.r2s.auth.service.AuthenticationService;
 import com.r2s.auth.service.UserService;
+import com.r2s.auth.token.RefreshTokenRedisKey;
+import com.r2s.auth.token.RefreshTokenSession;
 import com.r2s.core.dto.request.LoginRequest;
+import com.r2s.core.dto.request.RefreshTokenRequest;
 import com.r2s.core.dto.request.RegisterRequest;
 import com.r2s.core.dto.response.TokenResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -34,11 +56,18 @@ class AuthenticationServiceIntegrationTest {
                     .withUsername("postgres")
                     .withPassword("postgres");
 
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
     @DynamicPropertySource
     static void overrideProps(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
         registry.add("spring.flyway.enabled", () -> true);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
     }
@@ -49,6 +78,26 @@ class AuthenticationServiceIntegrationTest {
     @Autowired
     UserService userService;
 
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    JwtDecoder jwtDecoder;
+
+    @Autowired
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    RefreshTokenRedisKey redisKey;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void login_success() {
         userService.register(
@@ -65,6 +114,114 @@ class AuthenticationServiceIntegrationTest {
         TokenResponse response = authenticationService.login(request);
         assertThat(response).isNotNull();
         assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void refresh_rotatesToken_andDetectsReuse() {
+        userService.register(
+                RegisterRequest.builder()
+                        .username("auth_refresh")
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        TokenResponse login = authenticationService.login(
+                LoginRequest.builder()
+                        .username("auth_refresh")
+                        .password("password")
+                        .build()
+        );
+        RefreshTokenRequest first = RefreshTokenRequest.builder()
+                .refreshToken(login.getRefreshToken())
+                .build();
+
+        TokenResponse refreshed = authenticationService.refresh(first);
+        assertThat(refreshed.getToken()).isNotBlank();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+
+        AppException reused = assertThrows(
+                AppException.class,
+                () -> authenticationService.refresh(first)
+        );
+        assertThat(reused.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+
+        AppException revoked = assertThrows(
+                AppException.class,
+                () -> authenticationService.refresh(
+                        RefreshTokenRequest.builder()
+                                .refreshToken(refreshed.getRefreshToken())
+                                .build()
+                )
+        );
+        assertThat(revoked.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    @Test
+    void refresh_reloadsRoles_andRejectsDisabledUser() {
+        UUID userId = register("auth_refresh_roles");
+        TokenResponse login = login("auth_refresh_roles");
+        jdbcTemplate.update(
+                "INSERT INTO user_roles (user_id, role_id) SELECT ?, id FROM roles WHERE name = 'ROLE_ADMIN'",
+                userId
+        );
+        entityManager.clear();
+
+        TokenResponse refreshed = authenticationService.refresh(refresh(login.getRefreshToken()));
+
+        assertThat(jwtDecoder.decode(refreshed.getToken()).getClaimAsStringList("roles"))
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+
+        jdbcTemplate.update("UPDATE users SET enabled = false WHERE id = ?", userId);
+        entityManager.clear();
+
+        AppException disabled = assertThrows(
+                AppException.class,
+                () -> authenticationService.refresh(refresh(refreshed.getRefreshToken()))
+        );
+        assertThat(disabled.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    @Test
+    void refresh_keepsFamilyExpiry_andRejectsExpiredFamily() {
+        register("auth_refresh_expiry");
+        TokenResponse login = login("auth_refresh_expiry");
+        RefreshTokenSession issued = session(login.getRefreshToken());
+
+        TokenResponse refreshed = authenticationService.refresh(refresh(login.getRefreshToken()));
+        RefreshTokenSession rotated = session(refreshed.getRefreshToken());
+
+        assertThat(rotated.getFamilyId()).isEqualTo(issued.getFamilyId());
+        assertThat(rotated.getFamilyExpiresAt()).isEqualTo(issued.getFamilyExpiresAt());
+
+        rotated.setFamilyExpiresAt(Instant.now().minusSeconds(1).toEpochMilli());
+        redisTemplate.opsForValue().set(redisKey.token(hash(refreshed.getRefreshToken())), rotated);
+
+        AppException expired = assertThrows(
+                AppException.class,
+                () -> authenticationService.refresh(refresh(refreshed.getRefreshToken()))
+        );
+        assertThat(expired.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    @Test
+    void refresh_sessionStoredWithUsernameAndRoles_isStillAccepted() {
+        register("auth_refresh_legacy");
+        TokenResponse login = login("auth_refresh_legacy");
+        RefreshTokenSession issued = session(login.getRefreshToken());
+        String legacy = "{\"@class\":\"" + RefreshTokenSession.class.getName() + "\","
+                + "\"userId\":\"" + issued.getUserId() + "\","
+                + "\"username\":\"auth_refresh_legacy\","
+                + "\"roles\":[\"java.util.ArrayList\",[\"ROLE_USER\"]],"
+                + "\"familyId\":\"" + issued.getFamilyId() + "\","
+                + "\"familyExpiresAt\":" + issued.getFamilyExpiresAt() + "}";
+        byte[] key = redisKey.token(hash(login.getRefreshToken())).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(key, legacy.getBytes(StandardCharsets.UTF_8)));
+
+        TokenResponse refreshed = authenticationService.refresh(refresh(login.getRefreshToken()));
+
+        assertThat(session(refreshed.getRefreshToken()).getFamilyId()).isEqualTo(issued.getFamilyId());
     }
 
     @Test
@@ -95,4 +252,101 @@ class AuthenticationServiceIntegrationTest {
         );
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED);
     }
+
+    @Test
+    void login_loadsUserAndRoles_inOneStatement() {
+        userService.register(
+                RegisterRequest.builder()
+                        .username("auth_single_query")
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        Statistics statistics = resetStatistics();
+
+        authenticationService.login(
+                LoginRequest.builder()
+                        .username("auth_single_query")
+                        .password("password")
+                        .build()
+        );
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void introspect_loadsUserAndRoles_inOneStatement() {
+        String created = userService.register(
+                RegisterRequest.builder()
+                        .username("auth_introspect")
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        authenticateAs(UUID.fromString(created.substring(created.lastIndexOf(' ') + 1)));
+        Statistics statistics = resetStatistics();
+
+        assertThat(authenticationService.introspect().getRoles()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private UUID register(String username) {
+        String created = userService.register(
+                RegisterRequest.builder()
+                        .username(username)
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        return UUID.fromString(created.substring(created.lastIndexOf(' ') + 1));
+    }
+
+    private TokenResponse login(String username) {
+        return authenticationService.login(
+                LoginRequest.builder()
+                        .username(username)
+                        .password("password")
+                        .build()
+        );
+    }
+
+    private static RefreshTokenRequest refresh(String refreshToken) {
+        return RefreshTokenRequest.builder()
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    private RefreshTokenSession session(String refreshToken) {
+        return (RefreshTokenSession) redisTemplate.opsForValue().get(redisKey.token(hash(refreshToken)));
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Statistics resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void authenticateAs(UUID userId) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject(userId.toString())
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
 }
@@ -0,0 +1,180 @@
+package com.r2s.auth.test.integration;
+
+import com.r2s.core.ratelimit.ClientKeyResolver;
+import com.r2s.core.ratelimit.HybridRateLimiter;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.ratelimit.RateLimitScripts;
+import com.r2s.core.redis.CounterRedisTemplate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class HybridRateLimiterIntegrationTest {
+
+    private static final int MAX = 100;
+    private static final int INSTANCES = 3;
+    private static final int CLIENTS_PER_INSTANCE = 4;
+    private static final int REQUESTS_PER_CLIENT = 100;
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate template;
+    static CounterRedisTemplate counters;
+
+    RateLimitRedisKey redisKey = new RateLimitRedisKey();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        template = new StringRedisTemplate(connectionFactory);
+        counters = new CounterRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+            connection.serverCommands().resetConfigStats();
+        }
+    }
+
+    @Test
+    void multipleInstances_overAdmitWithinConfiguredShare() throws Exception {
+        double overAdmission = 0.1;
+        int admitted = hammer(overAdmission, "shared-over");
+        long scriptCalls = scriptCalls();
+        int requests = INSTANCES * CLIENTS_PER_INSTANCE * REQUESTS_PER_CLIENT;
+        int share = (int) Math.floor(MAX * overAdmission);
+
+        assertThat(admitted)
+                .as("admitted of max=%d (over-admission %.1f%%)", MAX, (admitted - MAX) * 100.0 / MAX)
+                .isBetween(MAX - share, MAX + INSTANCES * share);
+        assertThat(scriptCalls)
+                .as("redis calls for %d requests", requests)
+                .isLessThan(requests / 4);
+    }
+
+    @Test
+    void zeroOverAdmission_isExact() throws Exception {
+        assertThat(hammer(0, "shared-exact")).isEqualTo(MAX);
+    }
+
+    @Test
+    void sync_manyBuckets_batchesOnSharedConnection() {
+        HybridRateLimiter limiter = new HybridRateLimiter(counters, redisKey, RateLimitScripts.hybridSync(), 0.5);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String key = redisKey.base("GET", "/me", clientId("batch-" + i));
+            keys.add(key);
+            assertThat(limiter.tryAcquire(key, MAX, Duration.ofMinutes(1))).isTrue();
+            assertThat(limiter.tryAcquire(key, MAX, Duration.ofMinutes(1))).isTrue();
+        }
+        limiter.sync();
+        long connectionsBefore = connectionsReceived();
+
+        for (String key : keys) {
+            assertThat(limiter.tryAcquire(key, MAX, Duration.ofMinutes(1))).isTrue();
+        }
+        limiter.sync();
+
+        assertThat(connectionsReceived()).isEqualTo(connectionsBefore);
+        for (String key : keys) {
+            assertThat(template.opsForValue().get(key)).isEqualTo("3");
+        }
+    }
+
+    private int hammer(double overAdmission, String client) throws Exception {
+        String key = redisKey.base("GET", "/me", clientId(client));
+        List<HybridRateLimiter> limiters = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            limiters.add(new HybridRateLimiter(counters, redisKey, RateLimitScripts.hybridSync(), overAdmission));
+        }
+        ScheduledExecutorService syncers = Executors.newScheduledThreadPool(INSTANCES);
+        for (HybridRateLimiter limiter : limiters) {
+            syncers.scheduleWithFixedDelay(limiter::sync, 5, 5, TimeUnit.MILLISECONDS);
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(INSTANCES * CLIENTS_PER_INSTANCE);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (HybridRateLimiter limiter : limiters) {
+            for (int c = 0; c < CLIENTS_PER_INSTANCE; c++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        if (limiter.tryAcquire(key, MAX, Duration.ofMinutes(1))) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+        syncers.shutdown();
+        syncers.awaitTermination(5, TimeUnit.SECONDS);
+        limiters.forEach(HybridRateLimiter::sync);
+
+        assertThat(Long.parseLong(template.opsForValue().get(key))).isGreaterThanOrEqualTo(admitted.get());
+        return admitted.get();
+    }
+
+    private static long scriptCalls() {
+        Properties stats;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            stats = connection.serverCommands().info("commandstats");
+        }
+        return calls(stats, "cmdstat_evalsha") + calls(stats, "cmdstat_eval");
+    }
+
+    private static long connectionsReceived() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return Long.parseLong(connection.serverCommands().info("stats").getProperty("total_connections_received"));
+        }
+    }
+
+    private static long calls(Properties stats, String command) {
+        String value = stats.getProperty(command);
+        if (value == null) {
+            return 0;
+        }
+        String calls = value.substring(value.indexOf("calls=") + 6);
+        return Long.parseLong(calls.substring(0, calls.indexOf(',')));
+    }
+
+    private static byte[] clientId(String address) {
+        return RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, address);
+    }
+}
@@ -0,0 +1,188 @@
+package com.r2s.auth.test.integration;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.ClientKeyResolver;
+import com.r2s.core.ratelimit.HybridRateLimiter;
+import com.r2s.core.ratelimit.LocalRateLimiter;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.ratelimit.RateLimitScripts;
+import com.r2s.core.ratelimit.RateLimitService;
+import com.r2s.core.ratelimit.RedisCircuitBreaker;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import com.r2s.core.ratelimit.algorithm.TokenBucketRateLimitAlgorithmImpl;
+import com.r2s.core.redis.CounterRedisTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionCommands;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class RateLimitOutageIntegrationTest {
+
+    static final Duration COMMAND_TIMEOUT = Duration.ofMillis(100);
+    static final int FAILURE_THRESHOLD = 3;
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    static ToxicRedisProxy proxy;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate template;
+    static CounterRedisTemplate counters;
+
+    RateLimitRedisKey redisKey = new RateLimitRedisKey();
+    RedisCircuitBreaker circuitBreaker;
+    RateLimitService rateLimitService;
+
+    @BeforeAll
+    static void connect() throws Exception {
+        proxy = new ToxicRedisProxy(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", proxy.port()),
+                LettuceClientConfiguration.builder().commandTimeout(COMMAND_TIMEOUT).build()
+        );
+        connectionFactory.afterPropertiesSet();
+        template = new StringRedisTemplate(connectionFactory);
+        counters = new CounterRedisTemplate(connectionFactory);
+        warmUp();
+    }
+
+    @AfterAll
+    static void disconnect() throws Exception {
+        connectionFactory.destroy();
+        proxy.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        proxy.restore();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new RedisCircuitBreaker(counters, meterRegistry, FAILURE_THRESHOLD);
+        rateLimitService = new RateLimitService(
+                new RateLimitAlgorithmResolver(List.of(
+                        new TokenBucketRateLimitAlgorithmImpl(counters, redisKey, RateLimitScripts.tokenBucket())
+                )),
+                new HybridRateLimiter(counters, redisKey, RateLimitScripts.hybridSync(), 0.1),
+                circuitBreaker,
+                new LocalRateLimiter(1_000, Duration.ofMinutes(1)),
+                meterRegistry,
+                RateLimitService.MODE_REDIS
+        );
+    }
+
+    @Test
+    void slowRedis_opensBreaker_andStopsWaitingOnIt() {
+        String key = key("slow");
+        RateLimitRule rule = rule(RateLimitType.FAIL_LOCAL, 5);
+        assertThat(rateLimitService.checkAndConsume(key, rule)).isTrue();
+
+        proxy.latency(Duration.ofMillis(500));
+        int allowed = 0;
+        long slowest = 0;
+        long slowestAfterOpen = 0;
+        for (int i = 0; i < 20; i++) {
+            long started = System.nanoTime();
+            if (rateLimitService.checkAndConsume(key, rule)) {
+                allowed++;
+            }
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            slowest = Math.max(slowest, millis);
+            if (i >= FAILURE_THRESHOLD) {
+                slowestAfterOpen = Math.max(slowestAfterOpen, millis);
+            }
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(slowest).isLessThan(COMMAND_TIMEOUT.toMillis() * 3);
+        assertThat(slowestAfterOpen).isLessThan(20);
+        // the local limiter starts with a fresh bucket of 5
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    void disconnect_failsClosed_thenProbeRecovers() throws Exception {
+        String key = key("disconnect");
+        RateLimitRule rule = rule(RateLimitType.FAIL_CLOSED, 100);
+        assertThat(rateLimitService.checkAndConsume(key, rule)).isTrue();
+
+        proxy.cut();
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimitService.checkAndConsume(key, rule)).isFalse();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        circuitBreaker.probe();
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        proxy.restore();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (circuitBreaker.state() == RedisCircuitBreaker.State.OPEN && System.currentTimeMillis() < deadline) {
+            circuitBreaker.probe();
+            Thread.sleep(50);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+
+        assertThat(rateLimitService.checkAndConsume(key, rule)).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void disconnect_failsOpen() {
+        String key = key("open");
+        RateLimitRule rule = rule(RateLimitType.FAIL_OPEN, 1);
+        assertThat(rateLimitService.checkAndConsume(key, rule)).isTrue();
+        assertThat(rateLimitService.checkAndConsume(key, rule)).isFalse();
+
+        proxy.cut();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimitService.checkAndConsume(key, rule)).isTrue();
+        }
+    }
+
+    /**
+     * The first commands of a fresh JVM can exceed the short command timeout on class loading alone.
+     */
+    private static void warmUp() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            try {
+                template.execute((RedisCallback<String>) RedisConnectionCommands::ping);
+                return;
+            } catch (DataAccessException e) {
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private String key(String client) {
+        return redisKey.base("GET", "/me", RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, client));
+    }
+
+    private static RateLimitRule rule(String failurePolicy, int max) {
+        return RateLimitRule.builder()
+                .type(RateLimitType.TOKEN_BUCKET)
+                .maxAttempts(max)
+                .duration(Duration.ofMinutes(1))
+                .failurePolicy(failurePolicy)
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.r2s.auth.test.integration;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.ClientKeyResolver;
+import com.r2s.core.ratelimit.HybridRateLimiter;
+import com.r2s.core.ratelimit.LocalRateLimiter;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.ratelimit.RateLimitScripts;
+import com.r2s.core.ratelimit.RateLimitService;
+import com.r2s.core.ratelimit.RedisCircuitBreaker;
+import com.r2s.core.ratelimit.algorithm.FixedWindowRateLimitAlgorithmImpl;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import com.r2s.core.ratelimit.algorithm.SlidingWindowRateLimitAlgorithmImpl;
+import com.r2s.core.ratelimit.algorithm.TokenBucketRateLimitAlgorithmImpl;
+import com.r2s.core.redis.CounterRedisTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class RateLimitServiceIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate template;
+    static CounterRedisTemplate counters;
+
+    RateLimitRedisKey redisKey = new RateLimitRedisKey();
+    RateLimitService rateLimitService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        template = new StringRedisTemplate(connectionFactory);
+        counters = new CounterRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+            connection.serverCommands().resetConfigStats();
+        }
+        RateLimitAlgorithmResolver algorithms = new RateLimitAlgorithmResolver(List.of(
+                new FixedWindowRateLimitAlgorithmImpl(counters, redisKey, RateLimitScripts.fixedWindow()),
+                new SlidingWindowRateLimitAlgorithmImpl(counters, redisKey, RateLimitScripts.slidingWindow()),
+                new TokenBucketRateLimitAlgorithmImpl(counters, redisKey, RateLimitScripts.tokenBucket())
+        ));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        rateLimitService = new RateLimitService(
+                algorithms,
+                new HybridRateLimiter(counters, redisKey, RateLimitScripts.hybridSync(), 0.1),
+                new RedisCircuitBreaker(counters, meterRegistry, 5),
+                new LocalRateLimiter(1_000, Duration.ofMinutes(1)),
+                meterRegistry,
+                RateLimitService.MODE_REDIS
+        );
+    }
+
+    @Test
+    void checkAndConsume_blocksAfterMax_andSetsTtlOnBothKeys() {
+        String key = redisKey.base("POST", "/login", clientId("client"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimitService.checkAndConsume(key, fixedWindow(5, Duration.ofMinutes(1)))).isTrue();
+        }
+        assertThat(rateLimitService.checkAndConsume(key, fixedWindow(5, Duration.ofMinutes(1)))).isFalse();
+        assertThat(rateLimitService.checkAndConsume(key, fixedWindow(5, Duration.ofMinutes(1)))).isFalse();
+
+        assertThat(template.getExpire(key)).isPositive();
+        assertThat(template.getExpire(redisKey.blocked(key))).isPositive();
+        assertThat(template.opsForValue().get(key)).isEqualTo("6");
+    }
+
+    @Test
+    void checkAndConsume_concurrentClients_admitExactlyMax() throws Exception {
+        String key = redisKey.base("POST", "/login", clientId("shared"));
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int j = 0; j < 20; j++) {
+                    if (rateLimitService.checkAndConsume(key, fixedWindow(50, Duration.ofMinutes(1)))) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    void checkAndConsume_usesOneScriptCallPerRequest() {
+        String key = redisKey.base("GET", "/me", clientId("latency"));
+        int requests = 200;
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            rateLimitService.checkAndConsume(key, fixedWindow(1_000, Duration.ofMinutes(1)));
+        }
+        long averageMicros = (System.nanoTime() - started) / requests / 1_000;
+
+        Properties stats;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            stats = connection.serverCommands().info("commandstats");
+        }
+        long scriptCalls = calls(stats, "cmdstat_evalsha") + calls(stats, "cmdstat_eval");
+        // the first EVALSHA misses the script cache and is retried once as EVAL
+        assertThat(scriptCalls).isBetween((long) requests, (long) requests + 2);
+        assertThat(averageMicros).isLessThan(5_000);
+    }
+
+    @Test
+    void checkAndConsume_slidingWindow_doesNotRefillAtWindowEdge() throws Exception {
+        String key = redisKey.base("POST", "/login", clientId("sliding"));
+        RateLimitRule rule = rule(RateLimitType.SLIDING_WINDOW, 10, Duration.ofSeconds(2));
+
+        sleepPastWindowEdge(2_000);
+        assertThat(consume(key, rule, 11)).isEqualTo(10);
+
+        // a fixed window would admit another 10 here
+        sleepPastWindowEdge(2_000);
+        assertThat(consume(key, rule, 10)).isLessThanOrEqualTo(1);
+
+        Thread.sleep(1_000);
+        assertThat(consume(key, rule, 10)).isBetween(3, 6);
+        assertThat(template.getExpire(redisKey.slidingWindow(key))).isPositive();
+    }
+
+    @Test
+    void checkAndConsume_tokenBucket_allowsBurstThenSteadyRate() throws Exception {
+        String key = redisKey.base("GET", "/me", clientId("bucket"));
+        RateLimitRule rule = rule(RateLimitType.TOKEN_BUCKET, 5, Duration.ofSeconds(1));
+
+        assertThat(consume(key, rule, 6)).isEqualTo(5);
+
+        Thread.sleep(250);
+        assertThat(consume(key, rule, 2)).isEqualTo(1);
+
+        long ttl = template.getExpire(redisKey.tokenBucket(key), TimeUnit.MILLISECONDS);
+        assertThat(ttl).isBetween(1L, 1_000L);
+    }
+
+    private int consume(String key, RateLimitRule rule, int requests) {
+        int allowed = 0;
+        for (int i = 0; i < requests; i++) {
+            if (rateLimitService.checkAndConsume(key, rule)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private static void sleepPastWindowEdge(long windowMillis) throws InterruptedException {
+        Long now = template.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        Thread.sleep(windowMillis - now % windowMillis + 20);
+    }
+
+    private static RateLimitRule fixedWindow(int max, Duration window) {
+        return rule(RateLimitType.FIXED_WINDOW, max, window);
+    }
+
+    private static RateLimitRule rule(String type, int max, Duration duration) {
+        return RateLimitRule.builder().type(type).maxAttempts(max).duration(duration).build();
+    }
+
+    private static long calls(Properties stats, String command) {
+        String value = stats.getProperty(command);
+        if (value == null) {
+            return 0;
+        }
+        String calls = value.substring(value.indexOf("calls=") + 6);
+        return Long.parseLong(calls.substring(0, calls.indexOf(',')));
+    }
+
+    private static byte[] clientId(String address) {
+        return RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, address);
+    }
+}
@@ -0,0 +1,112 @@
+package com.r2s.auth.test.integration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TCP stand-in between a client and Redis that can delay client-to-server traffic, drop every open
+ * connection and refuse new ones.
+ */
+class ToxicRedisProxy implements AutoCloseable {
+
+    private final String upstreamHost;
+    private final int upstreamPort;
+    private final ServerSocket server;
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "toxic-redis-proxy");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long latencyMillis;
+    private volatile boolean refusing;
+
+    ToxicRedisProxy(String upstreamHost, int upstreamPort) throws IOException {
+        this.upstreamHost = upstreamHost;
+        this.upstreamPort = upstreamPort;
+        this.server = new ServerSocket(0);
+        executor.submit(this::accept);
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    void latency(Duration latency) {
+        latencyMillis = latency.toMillis();
+    }
+
+    void cut() {
+        refusing = true;
+        for (Socket socket : sockets) {
+            close(socket);
+        }
+    }
+
+    void restore() {
+        latencyMillis = 0;
+        refusing = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        cut();
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket client = server.accept();
+                if (refusing) {
+                    close(client);
+                    continue;
+                }
+                Socket upstream = new Socket(upstreamHost, upstreamPort);
+                sockets.add(client);
+                sockets.add(upstream);
+                executor.submit(() -> pump(client, upstream, true));
+                executor.submit(() -> pump(upstream, client, false));
+            } catch (IOException e) {
+                // server closed
+            }
+        }
+    }
+
+    private void pump(Socket from, Socket to, boolean delayed) {
+        byte[] buffer = new byte[8192];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (delayed && latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // connection dropped
+        } finally {
+            close(from);
+            close(to);
+        }
+    }
+
+    private void close(Socket socket) {
+        sockets.remove(socket);
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // already closed
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.r2s.auth.test.integration;
+
+import com.r2s.auth.entity.Role;
+import com.r2s.auth.entity.User;
+import com.r2s.auth.repository.UserRepository;
+import com.r2s.auth.service.UserImportService;
+import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.dto.response.UserImportResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "user-import.chunk-size=2")
+@ActiveProfiles("test")
+@Testcontainers
+class UserImportIntegrationTest {
+
+    private static final String HASH = "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4ZH6pXxWq1Y9m6Z1qH8uY3K";
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("auth_test_db")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    UserImportService userImportService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Test
+    void importNdjson_mergesUsersAndRoles_andRejectsInvalidLines() {
+        String input = String.join("\n",
+                "{\"username\":\"import_ndjson_1\",\"password\":\"" + HASH + "\",\"roles\":[\"admin\"]}",
+                "{\"username\":\"import_ndjson_2\",\"password\":\"plain-text\"}",
+                "",
+                "{\"username\":\"import_ndjson_3\",\"password\":\"" + HASH + "\",\"roles\":[\"AUTH_ROOT\"]}",
+                "{\"username\":\"import_ndjson_1\",\"password\":\"" + HASH + "\"}",
+                "not json"
+        );
+
+        UserImportResponse response = userImportService.importUsers("ndjson-job", "ndjson", stream(input));
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getLinesProcessed()).isEqualTo(6);
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getRejections()).hasSize(3);
+        assertThat(userRepository.findWithRolesByUsername("import_ndjson_1").orElseThrow().getRoles())
+                .extracting(Role::getName)
+                .containsExactlyInAnyOrder(RoleConstants.ROLE_USER, RoleConstants.ROLE_ADMIN);
+    }
+
+    @Test
+    void importCsv_resumesFromCheckpoint() {
+        String header = "username,password,roles,enabled";
+        String first = String.join("\n", header,
+                "import_csv_1," + HASH + ",MODERATOR,true",
+                "import_csv_2," + HASH + ",,",
+                "import_csv_3,\"" + HASH + "\",user|admin,false");
+        String full = first + "\n" + "import_csv_4," + HASH + ",,";
+
+        UserImportResponse partial = userImportService.importUsers("csv-job", "csv", stream(first));
+        UserImportResponse resumed = userImportService.importUsers("csv-job", "csv", stream(full));
+
+        assertThat(partial.getImported()).isEqualTo(3);
+        assertThat(resumed.getLinesProcessed()).isEqualTo(4);
+        assertThat(resumed.getImported()).isEqualTo(4);
+        assertThat(resumed.getSkipped()).isZero();
+        assertThat(userRepository.findByUsername("import_csv_3").orElseThrow().getEnabled()).isFalse();
+        assertThat(userRepository.findByUsername("import_csv_4")).isPresent();
+        assertThat(userImportService.getJob("csv-job").getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void importNdjson_acceptsOnlyHashesTheLoginEncoderVerifies() {
+        String bcrypt = new BCryptPasswordEncoder(4).encode("secret");
+        String pbkdf2 = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("secret");
+        String input = String.join("\n",
+                line("import_hash_bcrypt", bcrypt),
+                line("import_hash_pbkdf2", pbkdf2),
+                line("import_hash_noop", "{noop}secret"),
+                line("import_hash_sha256", "{sha256}" + "ab".repeat(32)),
+                line("import_hash_empty_id", "{}" + bcrypt),
+                line("import_hash_bad_bcrypt", "{bcrypt}not-a-bcrypt-hash"),
+                line("import_hash_bad_cost", bcrypt.replaceFirst("\\$\\d\\d\\$", "\\$99\\$")),
+                line("import_hash_bad_pbkdf2", "{pbkdf2}" + "zz".repeat(48))
+        );
+
+        UserImportResponse response = userImportService.importUsers("hash-job", "ndjson", stream(input));
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(6);
+        assertThat(passwordEncoder.matches("secret",
+                userRepository.findByUsername("import_hash_bcrypt").orElseThrow().getPassword())).isTrue();
+        assertThat(passwordEncoder.matches("secret",
+                userRepository.findByUsername("import_hash_pbkdf2").orElseThrow().getPassword())).isTrue();
+        assertThat(userRepository.findByUsername("import_hash_noop")).isEmpty();
+    }
+
+    @Test
+    void importNdjson_duplicateUsernameInChunk_keepsFirstLineAndItsRoles() {
+        String input = String.join("\n",
+                "{\"username\":\"import_dup\",\"password\":\"" + HASH + "\",\"roles\":[\"moderator\"],\"enabled\":false}",
+                "{\"username\":\"import_dup\",\"password\":\"" + HASH + "\",\"roles\":[\"admin\"],\"enabled\":true}"
+        );
+
+        UserImportResponse response = userImportService.importUsers("dup-job", "ndjson", stream(input));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        User user = userRepository.findWithRolesByUsername("import_dup").orElseThrow();
+        assertThat(user.getEnabled()).isFalse();
+        assertThat(user.getRoles())
+                .extracting(Role::getName)
+                .containsExactlyInAnyOrder(RoleConstants.ROLE_USER, RoleConstants.ROLE_MODERATOR);
+    }
+
+    @Test
+    void importUsers_jobIdLongerThanColumn_isRejectedUpFront() {
+        String input = line("import_long_job", HASH);
+        AppException exception = assertThrows(AppException.class,
+                () -> userImportService.importUsers("j".repeat(65), "ndjson", stream(input)));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IMPORT_JOB_ID_INVALID);
+        assertThat(userRepository.findByUsername("import_long_job")).isEmpty();
+        assertThat(userImportService.importUsers("j".repeat(64), "ndjson", stream(input)).getImported()).isEqualTo(1);
+    }
+
+    private static String line(String username, String password) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    }
+
+    private static InputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
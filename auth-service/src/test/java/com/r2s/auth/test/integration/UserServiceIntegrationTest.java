@@ -1,14 +1,24 @@
 package com.r2s.auth.test.integration;
 
+import com.r2s.auth.entity.Role;
+import com.r2s.auth.repository.UserRepository;
 import com.r2s.auth.service.AuthenticationService;
 import com.r2s.auth.service.UserService;
+import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.dto.request.BulkRegisterRequest;
 import com.r2s.core.dto.request.RegisterRequest;
+import com.r2s.core.dto.response.BulkRegisterResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -17,6 +27,11 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -48,6 +63,12 @@ class UserServiceIntegrationTest {
     @Autowired
     AuthenticationService authenticationService;
 
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     void register_success() {
         RegisterRequest request = RegisterRequest.builder()
@@ -74,6 +95,39 @@ class UserServiceIntegrationTest {
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.USER_EXISTS);
     }
 
+    @Test
+    void registerBulk_insertsUsersAndRoles() {
+        userService.register(
+                RegisterRequest.builder()
+                        .username("bulk_taken")
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        List<RegisterRequest> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(RegisterRequest.builder()
+                    .username("bulk_user_" + i)
+                    .password("password")
+                    .role(i % 2 == 0 ? "admin" : "")
+                    .build());
+        }
+        users.add(RegisterRequest.builder().username("bulk_taken").password("password").build());
+
+        BulkRegisterResponse response = userService.registerBulk(
+                BulkRegisterRequest.builder().users(users).build()
+        );
+
+        assertThat(response.getCreated()).isEqualTo(20);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults().get(20).getCode()).isEqualTo(ErrorCode.USER_EXISTS.getCode());
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(userRepository.findWithRolesByUsername("bulk_user_0").orElseThrow().getRoles())
+                .extracting(Role::getName)
+                .containsExactlyInAnyOrder(RoleConstants.ROLE_USER, RoleConstants.ROLE_ADMIN);
+    }
+
     @Test
     void getMe_unauthorized_throwException() {
         SecurityContextHolder.clearContext();
@@ -83,4 +137,36 @@ class UserServiceIntegrationTest {
         );
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED);
     }
+
+    @Test
+    void getMe_loadsUserAndRoles_inOneStatement() {
+        String created = userService.register(
+                RegisterRequest.builder()
+                        .username("user_me")
+                        .password("password")
+                        .role("")
+                        .build()
+        );
+        UUID userId = UUID.fromString(created.substring(created.lastIndexOf(' ') + 1));
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject(userId.toString())
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        try {
+            assertThat(userService.getMe().getRoles()).isNotEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
 }
@@ -7,8 +7,11 @@ import com.r2s.auth.entity.User;
 import com.r2s.auth.repository.UserRepository;
 import com.r2s.auth.service.impl.AuthenticationServiceImpl;
 import com.r2s.auth.token.JwtToken;
+import com.r2s.auth.token.RefreshToken;
+import com.r2s.auth.token.RefreshTokenSession;
 import com.r2s.core.constants.RoleConstants;
 import com.r2s.core.dto.request.LoginRequest;
+import com.r2s.core.dto.request.RefreshTokenRequest;
 import com.r2s.core.dto.response.IntrospectResponse;
 import com.r2s.core.dto.response.TokenResponse;
 import com.r2s.core.exception.AppException;
@@ -32,6 +35,9 @@ public class AuthenticationServiceUnitTest {
     @Mock
     JwtToken jwtToken;
 
+    @Mock
+    RefreshToken refreshToken;
+
     @Mock
     AuthenticationValidation authenticationValidation;
 
@@ -56,13 +62,76 @@ public class AuthenticationServiceUnitTest {
                 .build();
         when(authenticationValidation.validateLogin(request)).thenReturn(user);
         when(jwtToken.generateToken(user)).thenReturn(tokenResponse);
+        when(refreshToken.issue(user)).thenReturn("refresh-token");
         TokenResponse result = authenticationService.login(request);
         assertNotNull(result);
         assertEquals("jwt-token", result.getToken());
+        assertEquals("refresh-token", result.getRefreshToken());
         verify(authenticationValidation).validateLogin(request);
         verify(jwtToken).generateToken(user);
     }
 
+    @Test
+    void refresh_success() {
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("old-refresh-token")
+                .build();
+        RefreshTokenSession session = RefreshTokenSession.builder()
+                .userId(UUID.randomUUID())
+                .familyId(UUID.randomUUID())
+                .build();
+        User user = User.builder()
+                .id(session.getUserId())
+                .username("user")
+                .enabled(true)
+                .roles(Set.of(Role.builder().name(RoleConstants.ROLE_ADMIN).build()))
+                .build();
+        when(refreshToken.consume("old-refresh-token")).thenReturn(session);
+        when(userRepository.findWithRolesById(session.getUserId())).thenReturn(Optional.of(user));
+        when(jwtToken.generateToken(user))
+                .thenReturn(TokenResponse.builder().token("jwt-token").build());
+        when(refreshToken.rotate(session, user)).thenReturn("new-refresh-token");
+        TokenResponse result = authenticationService.refresh(request);
+        assertEquals("jwt-token", result.getToken());
+        assertEquals("new-refresh-token", result.getRefreshToken());
+        verifyNoInteractions(authenticationValidation);
+    }
+
+    @Test
+    void refresh_disabledOrDeletedUser_throwException() {
+        RefreshTokenSession session = RefreshTokenSession.builder()
+                .userId(UUID.randomUUID())
+                .familyId(UUID.randomUUID())
+                .build();
+        when(refreshToken.consume(anyString())).thenReturn(session);
+        when(userRepository.findWithRolesById(session.getUserId()))
+                .thenReturn(Optional.of(User.builder().id(session.getUserId()).enabled(false).build()))
+                .thenReturn(Optional.empty());
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("refresh-token")
+                .build();
+        for (int i = 0; i < 2; i++) {
+            AppException ex = assertThrows(AppException.class,
+                    () -> authenticationService.refresh(request));
+            assertEquals(ErrorCode.REFRESH_TOKEN_INVALID, ex.getErrorCode());
+        }
+        verifyNoInteractions(jwtToken);
+        verify(refreshToken, never()).rotate(any(), any());
+    }
+
+    @Test
+    void refresh_reusedToken_throwException() {
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("rotated-refresh-token")
+                .build();
+        when(refreshToken.consume("rotated-refresh-token"))
+                .thenThrow(new AppException(ErrorCode.REFRESH_TOKEN_REUSED));
+        AppException ex = assertThrows(AppException.class,
+                () -> authenticationService.refresh(request));
+        assertEquals(ErrorCode.REFRESH_TOKEN_REUSED, ex.getErrorCode());
+        verifyNoInteractions(jwtToken);
+    }
+
     @Test
     void login_invalidPassword_throwException() {
         LoginRequest request = LoginRequest.builder()
@@ -87,17 +156,17 @@ public class AuthenticationServiceUnitTest {
                 .roles(Set.of(role))
                 .build();
         when(securityContextHelper.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findWithRolesById(userId)).thenReturn(Optional.of(user));
         IntrospectResponse response = authenticationService.introspect();
         assertNotNull(response);
-        verify(userRepository).findById(userId);
+        verify(userRepository).findWithRolesById(userId);
     }
 
     @Test
     void introspect_userNotFound_throwException() {
         UUID userId = UUID.randomUUID();
         when(securityContextHelper.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findWithRolesById(userId)).thenReturn(Optional.empty());
         AppException ex = assertThrows(AppException.class,
                 () -> authenticationService.introspect());
         assertEquals(ErrorCode.USER_NOT_FOUND, ex.getErrorCode());
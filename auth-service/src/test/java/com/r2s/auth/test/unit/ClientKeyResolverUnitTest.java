@@ -0,0 +1,130 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.ratelimit.ApiKeyStore;
+import com.r2s.core.ratelimit.ClientKeyResolver;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientKeyResolverUnitTest {
+
+    @Mock
+    JwtDecoder jwtDecoder;
+
+    ClientKeyResolver clientKeyResolver;
+    RateLimitRedisKey redisKey = new RateLimitRedisKey();
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> owners = Map.of("key-1", "client-1", "key-2", "client-1", "shared", "shared");
+        clientKeyResolver = new ClientKeyResolver(jwtDecoder, owners::get);
+    }
+
+    @Test
+    void resolve_verifiedTokens_shareSubjectBucket() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("user-1"));
+        when(jwtDecoder.decode("token-b")).thenReturn(jwt("user-1"));
+
+        byte[] first = clientKeyResolver.resolve(request("Bearer token-a", null, "10.0.0.1"));
+        byte[] second = clientKeyResolver.resolve(request("Bearer token-b", null, "10.0.0.2"));
+
+        assertArrayEquals(first, second);
+        assertArrayEquals(RateLimitRedisKey.clientId(ClientKeyResolver.SUBJECT, "user-1"), first);
+    }
+
+    @Test
+    void resolve_invalidToken_fallsBackToApiKeyOwnerThenAddress() {
+        when(jwtDecoder.decode(anyString())).thenThrow(new JwtException("Invalid JWT signature"));
+
+        byte[] withApiKey = clientKeyResolver.resolve(request("Bearer forged-1", "key-1", "10.0.0.1"));
+        byte[] withOtherKeyOfSameOwner = clientKeyResolver.resolve(request(null, "key-2", "10.0.0.2"));
+        byte[] withoutApiKey = clientKeyResolver.resolve(request("Bearer forged-2", null, "10.0.0.1"));
+
+        assertArrayEquals(RateLimitRedisKey.clientId(ClientKeyResolver.API_KEY, "client-1"), withApiKey);
+        assertArrayEquals(withApiKey, withOtherKeyOfSameOwner);
+        assertArrayEquals(RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, "10.0.0.1"), withoutApiKey);
+    }
+
+    @Test
+    void resolve_unknownApiKeys_shareAddressBucket() {
+        byte[] first = clientKeyResolver.resolve(request(null, "random-" + UUID.randomUUID(), "10.0.0.1"));
+        byte[] second = clientKeyResolver.resolve(request(null, "random-" + UUID.randomUUID(), "10.0.0.1"));
+
+        assertArrayEquals(first, second);
+        assertArrayEquals(RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, "10.0.0.1"), first);
+    }
+
+    @Test
+    void resolve_withoutKeyStore_ignoresApiKeys() {
+        ClientKeyResolver withoutStore = new ClientKeyResolver(jwtDecoder, ApiKeyStore.NONE);
+
+        byte[] resolved = withoutStore.resolve(request(null, "key-1", "10.0.0.1"));
+
+        assertArrayEquals(RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, "10.0.0.1"), resolved);
+    }
+
+    @Test
+    void resolve_sameValueOfDifferentKinds_doesNotCollide() {
+        byte[] address = clientKeyResolver.resolve(request(null, null, "shared"));
+        byte[] apiKey = clientKeyResolver.resolve(request(null, "shared", "10.0.0.1"));
+
+        assertFalse(Arrays.equals(address, apiKey));
+        verifyNoInteractions(jwtDecoder);
+    }
+
+    @Test
+    void base_isFixedSize_andKeepsClientKeysInOneClusterSlot() {
+        byte[] client = RateLimitRedisKey.clientId(ClientKeyResolver.ADDRESS, "10.0.0.1");
+        String shortPath = redisKey.base("GET", "/me", client);
+        String longPath = redisKey.base("GET", "/admin/import/users/" + "x".repeat(200), client);
+
+        assertEquals(RateLimitRedisKey.BASE_KEY_LENGTH, shortPath.length());
+        assertEquals(RateLimitRedisKey.BASE_KEY_LENGTH, longPath.length());
+        assertNotEquals(shortPath, longPath);
+        assertNotEquals(shortPath, redisKey.base("POST", "/me", client));
+
+        int slot = SlotHash.getSlot(shortPath);
+        assertEquals(slot, SlotHash.getSlot(longPath));
+        assertEquals(slot, SlotHash.getSlot(redisKey.blocked(shortPath)));
+        assertEquals(slot, SlotHash.getSlot(redisKey.slidingWindow(shortPath)));
+        assertEquals(slot, SlotHash.getSlot(redisKey.tokenBucket(shortPath)));
+    }
+
+    private static MockHttpServletRequest request(String authorization, String apiKey, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/me");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        if (apiKey != null) {
+            request.addHeader(ClientKeyResolver.API_KEY_HEADER, apiKey);
+        }
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private static Jwt jwt(String subject) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject(subject)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+}
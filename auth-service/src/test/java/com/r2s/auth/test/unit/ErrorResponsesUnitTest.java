@@ -0,0 +1,49 @@
+package com.r2s.auth.test.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.r2s.core.dto.ApiResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.exception.ErrorResponses;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorResponsesUnitTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void body_everyErrorCode_matchesSerializedApiResponse() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ApiResponse<?> expected = ApiResponse.builder()
+                    .code(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+            assertArrayEquals(objectMapper.writeValueAsBytes(expected), ErrorResponses.body(errorCode),
+                    errorCode.name());
+        }
+    }
+
+    @Test
+    void write_setsStatusContentTypeAndBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ErrorResponses.write(response, ErrorCode.TOO_MANY_REQUEST);
+
+        assertEquals(429, response.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertArrayEquals(ErrorResponses.body(ErrorCode.TOO_MANY_REQUEST), response.getContentAsByteArray());
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    void appException_skipsStackTrace() {
+        AppException ex = new AppException(ErrorCode.USER_NOT_FOUND);
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), ex.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.redis.CounterRedisTemplate;
+import com.r2s.core.redis.HotPathRedisAutoConfiguration;
+import com.r2s.core.redis.LongRedisSerializer;
+import io.lettuce.core.ClientOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HotPathRedisAutoConfigurationUnitTest {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RedisAutoConfiguration.class, HotPathRedisAutoConfiguration.class))
+            .withPropertyValues("spring.data.redis.host=redis.internal", "spring.data.redis.port=6380");
+
+    @Test
+    void dedicatedConnection_copiesEndpointWithOwnTimeout() {
+        contextRunner
+                .withPropertyValues("spring.data.redis.timeout=2s", "redis.hot-path.command-timeout=80ms")
+                .run(context -> {
+                    RedisConnectionFactory application = context.getBean(RedisConnectionFactory.class);
+                    LettuceConnectionFactory hotPath = (LettuceConnectionFactory) context
+                            .getBean(CounterRedisTemplate.class).getConnectionFactory();
+
+                    assertThat(hotPath).isNotSameAs(application);
+                    assertThat(hotPath.getHostName()).isEqualTo("redis.internal");
+                    assertThat(hotPath.getPort()).isEqualTo(6380);
+                    assertThat(hotPath.getClientConfiguration().getCommandTimeout()).isEqualTo(Duration.ofMillis(80));
+                    ClientOptions options = hotPath.getClientConfiguration().getClientOptions().orElseThrow();
+                    assertThat(options.getDisconnectedBehavior())
+                            .isEqualTo(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+                    assertThat(options.getTimeoutOptions().isTimeoutCommands()).isTrue();
+                });
+    }
+
+    @Test
+    void sharedConnection_reusesApplicationFactory() {
+        contextRunner
+                .withPropertyValues("redis.hot-path.dedicated-connection=false")
+                .run(context -> assertThat(context.getBean(CounterRedisTemplate.class).getConnectionFactory())
+                        .isSameAs(context.getBean(RedisConnectionFactory.class)));
+    }
+
+    @Test
+    void longSerializer_roundTripsRedisIntegers() {
+        for (long value : new long[]{0, 7, -42, 1_700_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            byte[] encoded = LongRedisSerializer.encode(value);
+            assertThat(new String(encoded, StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+            assertThat(LongRedisSerializer.decode(encoded)).isEqualTo(value);
+        }
+        assertThat(LongRedisSerializer.INSTANCE.deserialize(null)).isNull();
+    }
+
+    @Test
+    void longSerializer_rejectsNonIntegers() {
+        for (String value : new String[]{"", "-", "1.5", "{\"a\":1}", "9223372036854775808", "-9223372036854775809"}) {
+            assertThatThrownBy(() -> LongRedisSerializer.decode(value.getBytes(StandardCharsets.US_ASCII)))
+                    .as(value)
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.auth.domain.hashing.PasswordHasher;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PasswordHasherUnitTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void encode_success() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode("pass")).thenReturn("encoded");
+        PasswordHasher hasher = new PasswordHasher(encoder, meterRegistry, 1, 1, Duration.ofSeconds(1));
+
+        assertEquals("encoded", hasher.encode("pass"));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void encodeAll_keepsOrder_withQueueSmallerThanBatch() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        PasswordHasher hasher = new PasswordHasher(encoder, meterRegistry, 2, 2, Duration.ofSeconds(1));
+
+        List<String> encoded = hasher.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        assertEquals(List.of("encoded-a", "encoded-b", "encoded-c", "encoded-d", "encoded-e"), encoded);
+        assertEquals(0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void encode_poolSaturated_throwServiceUnavailable() throws Exception {
+        PasswordHasher hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(5));
+        callers.submit(() -> hasher.encode("running"));
+        callers.submit(() -> hasher.encode("queued"));
+        awaitQueued(1);
+
+        AppException ex = assertThrows(AppException.class, () -> hasher.encode("rejected"));
+
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, ex.getErrorCode());
+        assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void matches_timeout_throwServiceUnavailable() {
+        PasswordHasher hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, Duration.ofMillis(50));
+
+        AppException ex = assertThrows(AppException.class, () -> hasher.matches("pass", "hash"));
+
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, ex.getErrorCode());
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "encoded";
+        });
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+        return encoder;
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            double queued = meterRegistry.get("executor.queued").tag("name", "password.hash").gauge().value();
+            if (queued >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("Password hashing queue never reached " + expected);
+    }
+}
@@ -0,0 +1,109 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.auth.domain.hashing.PasswordHasher;
+import com.r2s.auth.domain.hashing.PasswordRehashQueue;
+import com.r2s.auth.repository.UserJdbcRepository;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordRehashQueueUnitTest {
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    PasswordHasher passwordHasher;
+
+    @Mock
+    UserJdbcRepository userJdbcRepository;
+
+    @Test
+    void offer_sameUserTwice_keepsOnePendingRehash() {
+        PasswordRehashQueue queue = new PasswordRehashQueue(passwordEncoder, passwordHasher, userJdbcRepository, 10, 10);
+        UUID userId = UUID.randomUUID();
+
+        queue.offer(userId, "pass", "old-hash");
+        queue.offer(userId, "pass", "old-hash");
+
+        assertEquals(1, queue.size());
+        verifyNoInteractions(passwordEncoder, passwordHasher, userJdbcRepository);
+    }
+
+    @Test
+    void flush_takesOneBatchPerTick_onHashingPool() {
+        PasswordRehashQueue queue = new PasswordRehashQueue(passwordEncoder, passwordHasher, userJdbcRepository, 10, 2);
+        List<List<? extends CharSequence>> hashed = new ArrayList<>();
+        when(passwordHasher.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<? extends CharSequence> rawPasswords = invocation.getArgument(0);
+            hashed.add(rawPasswords);
+            assertEquals("pass", rawPasswords.get(0).toString());
+            return Collections.nCopies(rawPasswords.size(), "{bcrypt}new-hash");
+        });
+        when(userJdbcRepository.updatePasswords(anyList())).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).size());
+        for (int i = 0; i < 3; i++) {
+            queue.offer(UUID.randomUUID(), "pass", "old-hash");
+        }
+
+        queue.flush();
+
+        assertEquals(1, queue.size());
+        assertEquals(2, hashed.get(0).size());
+        assertEquals("\0\0\0\0", hashed.get(0).get(0).toString());
+
+        queue.flush();
+        queue.flush();
+
+        ArgumentCaptor<List<UserJdbcRepository.PasswordUpdate>> batches = updateCaptor();
+        verify(userJdbcRepository, times(2)).updatePasswords(batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+        assertEquals("{bcrypt}new-hash", batches.getAllValues().get(0).get(0).newHash());
+        assertEquals("old-hash", batches.getAllValues().get(0).get(0).oldHash());
+        assertEquals(0, queue.size());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void flush_hashingPoolBusy_dropsBatchWithoutWriting() {
+        PasswordRehashQueue queue = new PasswordRehashQueue(passwordEncoder, passwordHasher, userJdbcRepository, 10, 10);
+        when(passwordHasher.encodeAll(anyList())).thenThrow(new AppException(ErrorCode.SERVICE_UNAVAILABLE));
+        queue.offer(UUID.randomUUID(), "pass", "old-hash");
+
+        queue.flush();
+
+        assertEquals(0, queue.size());
+        verifyNoInteractions(userJdbcRepository);
+    }
+
+    @Test
+    void offer_queueFull_dropsRehash() {
+        PasswordRehashQueue queue = new PasswordRehashQueue(passwordEncoder, passwordHasher, userJdbcRepository, 1, 10);
+
+        queue.offer(UUID.randomUUID(), "pass", "old-hash");
+        queue.offer(UUID.randomUUID(), "pass", "old-hash");
+
+        assertEquals(1, queue.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<UserJdbcRepository.PasswordUpdate>> updateCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.ratelimit.ClientKeyResolver;
+import com.r2s.core.ratelimit.RateLimitAutoConfiguration;
+import com.r2s.core.ratelimit.RateLimitBlockFilter;
+import com.r2s.core.ratelimit.RateLimitRuleRegistry;
+import com.r2s.core.ratelimit.RateLimitService;
+import com.r2s.core.redis.HotPathRedisAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class RateLimitAutoConfigurationUnitTest {
+
+    WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    RedisAutoConfiguration.class,
+                    HotPathRedisAutoConfiguration.class,
+                    RateLimitAutoConfiguration.class
+            ))
+            .withBean(JwtDecoder.class, () -> mock(JwtDecoder.class));
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(RateLimitBlockFilter.class));
+    }
+
+    @Test
+    void enabled_bindsRoutesAndCreatesFilter() {
+        contextRunner
+                .withPropertyValues(
+                        "rate-limit.enabled=true",
+                        "rate-limit.rules[0].method=GET",
+                        "rate-limit.rules[0].path=/list",
+                        "rate-limit.rules[0].type=sliding_window",
+                        "rate-limit.rules[0].max-attempts=20",
+                        "rate-limit.rules[0].duration=1m"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(RateLimitBlockFilter.class);
+                    assertThat(context).hasSingleBean(RateLimitService.class);
+                    assertThat(context).hasSingleBean(ClientKeyResolver.class);
+
+                    RateLimitRuleRegistry.MatchedRule list = context.getBean(RateLimitRuleRegistry.class)
+                            .match("GET", "/list");
+                    assertThat(list.route()).isEqualTo("/list");
+                    assertThat(list.rule().getType()).isEqualTo(RateLimitType.SLIDING_WINDOW);
+                    assertThat(list.rule().getFailurePolicy()).isEqualTo(RateLimitType.FAIL_LOCAL);
+                });
+    }
+
+    @Test
+    void enabled_invalidRule_failsStartup() {
+        contextRunner
+                .withPropertyValues(
+                        "rate-limit.enabled=true",
+                        "rate-limit.rules[0].path=/list",
+                        "rate-limit.rules[0].type=leaky_bucket",
+                        "rate-limit.rules[0].max-attempts=20",
+                        "rate-limit.rules[0].duration=1m"
+                )
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
@@ -0,0 +1,104 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.RateLimitProperties;
+import com.r2s.core.ratelimit.RateLimitRuleRegistry;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithm;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitRuleRegistryUnitTest {
+
+    RateLimitProperties properties;
+    RateLimitAlgorithmResolver algorithms;
+
+    @BeforeEach
+    void setUp() {
+        algorithms = new RateLimitAlgorithmResolver(Stream.of(
+                RateLimitType.FIXED_WINDOW, RateLimitType.SLIDING_WINDOW, RateLimitType.TOKEN_BUCKET
+        ).map(RateLimitRuleRegistryUnitTest::algorithm).toList());
+
+        properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                route("POST", "/login", RateLimitType.SLIDING_WINDOW, 5),
+                route("GET", "/me", RateLimitType.TOKEN_BUCKET, 300),
+                route(null, "/admin/import/users/**", RateLimitType.FIXED_WINDOW, 2)
+        ));
+    }
+
+    @Test
+    void match_usesFirstRouteMatchingMethodAndPath() {
+        RateLimitRuleRegistry registry = new RateLimitRuleRegistry(properties, algorithms);
+
+        RateLimitRuleRegistry.MatchedRule login = registry.match("POST", "/login");
+        assertEquals("/login", login.id());
+        assertEquals(RateLimitType.SLIDING_WINDOW, login.rule().getType());
+        assertEquals(5, login.rule().getMaxAttempts());
+
+        RateLimitRuleRegistry.MatchedRule me = registry.match("GET", "/me");
+        assertEquals(RateLimitType.TOKEN_BUCKET, me.rule().getType());
+        assertEquals(300, me.rule().getMaxAttempts());
+
+        RateLimitRuleRegistry.MatchedRule job = registry.match("GET", "/admin/import/users/job-1");
+        assertEquals("/admin/import/users/**", job.id());
+        assertEquals(2, job.rule().getMaxAttempts());
+    }
+
+    @Test
+    void match_fallsBackToDefaultRule_keyedByPath() {
+        RateLimitRuleRegistry registry = new RateLimitRuleRegistry(properties, algorithms);
+
+        RateLimitRuleRegistry.MatchedRule matched = registry.match("GET", "/login");
+
+        assertEquals("/login", matched.id());
+        assertEquals(RateLimitType.FIXED_WINDOW, matched.rule().getType());
+        assertEquals(RateLimitType.MAX_ATTEMPTS, matched.rule().getMaxAttempts());
+        assertEquals(Duration.ofMinutes(RateLimitType.TTL_SPAM_REQUEST), matched.rule().getDuration());
+    }
+
+    @Test
+    void constructor_rejectsUnknownType() {
+        properties.setRules(List.of(route("GET", "/me", "leaky_bucket", 10)));
+
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitRuleRegistry(properties, algorithms));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveLimit() {
+        properties.setRules(List.of(route("GET", "/me", RateLimitType.TOKEN_BUCKET, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitRuleRegistry(properties, algorithms));
+    }
+
+    private static RateLimitProperties.Route route(String method, String path, String type, int max) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setMethod(method);
+        route.setPath(path);
+        route.setType(type);
+        route.setMaxAttempts(max);
+        route.setDuration(Duration.ofMinutes(1));
+        return route;
+    }
+
+    private static RateLimitAlgorithm algorithm(String type) {
+        return new RateLimitAlgorithm() {
+            @Override
+            public String type() {
+                return type;
+            }
+
+            @Override
+            public boolean tryAcquire(String baseKey, RateLimitRule rule) {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.HybridRateLimiter;
+import com.r2s.core.ratelimit.LocalRateLimiter;
+import com.r2s.core.ratelimit.RateLimitService;
+import com.r2s.core.ratelimit.RedisCircuitBreaker;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithm;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import com.r2s.core.redis.CounterRedisTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitServiceUnitTest {
+
+    @Mock
+    RateLimitAlgorithm algorithm;
+
+    @Mock
+    HybridRateLimiter hybridRateLimiter;
+
+    @Mock
+    CounterRedisTemplate redis;
+
+    SimpleMeterRegistry meterRegistry;
+    RedisCircuitBreaker circuitBreaker;
+    RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        when(algorithm.type()).thenReturn(RateLimitType.TOKEN_BUCKET);
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new RedisCircuitBreaker(redis, meterRegistry, 2);
+        rateLimitService = new RateLimitService(
+                new RateLimitAlgorithmResolver(List.of(algorithm)),
+                hybridRateLimiter,
+                circuitBreaker,
+                new LocalRateLimiter(1_000, Duration.ofMinutes(1)),
+                meterRegistry,
+                RateLimitService.MODE_REDIS
+        );
+    }
+
+    @Test
+    void checkAndConsume_redisFailing_appliesFailurePolicy() {
+        when(algorithm.tryAcquire(anyString(), any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+
+        assertTrue(rateLimitService.checkAndConsume("open", rule(RateLimitType.FAIL_OPEN)));
+        assertFalse(rateLimitService.checkAndConsume("closed", rule(RateLimitType.FAIL_CLOSED)));
+
+        assertEquals(1.0, meterRegistry.get("rate.limit.fallback").tag("policy", "open").counter().count());
+        assertEquals(1.0, meterRegistry.get("rate.limit.fallback").tag("policy", "closed").counter().count());
+    }
+
+    @Test
+    void checkAndConsume_breakerOpen_skipsRedis_andLimitsLocally() {
+        when(algorithm.tryAcquire(anyString(), any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        RateLimitRule rule = rule(RateLimitType.FAIL_LOCAL);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (rateLimitService.checkAndConsume("local", rule)) {
+                allowed++;
+            }
+        }
+
+        assertEquals(3, allowed);
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.state());
+        verify(algorithm, times(2)).tryAcquire(anyString(), any());
+    }
+
+    @Test
+    void checkAndConsume_nonRedisErrorDuringTrial_releasesTrialAndFallsBack() {
+        when(algorithm.tryAcquire(anyString(), any()))
+                .thenThrow(new QueryTimeoutException("Redis command timed out"))
+                .thenThrow(new QueryTimeoutException("Redis command timed out"))
+                .thenThrow(new IllegalStateException("ERR Error running script"))
+                .thenReturn(true);
+        when(redis.execute(ArgumentMatchers.<RedisCallback<String>>any())).thenReturn("PONG");
+        RateLimitRule rule = rule(RateLimitType.FAIL_CLOSED);
+        rateLimitService.checkAndConsume("trial", rule);
+        rateLimitService.checkAndConsume("trial", rule);
+        circuitBreaker.probe();
+        assertEquals(RedisCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+
+        assertFalse(rateLimitService.checkAndConsume("trial", rule));
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.state());
+
+        circuitBreaker.probe();
+        assertTrue(rateLimitService.checkAndConsume("trial", rule));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void checkAndConsume_redisHealthy_usesAlgorithm() {
+        when(algorithm.tryAcquire(anyString(), any())).thenReturn(false);
+
+        assertFalse(rateLimitService.checkAndConsume("healthy", rule(RateLimitType.FAIL_OPEN)));
+        assertEquals(0.0, meterRegistry.get("rate.limit.fallback").tag("policy", "open").counter().count());
+    }
+
+    private static RateLimitRule rule(String failurePolicy) {
+        return RateLimitRule.builder()
+                .type(RateLimitType.TOKEN_BUCKET)
+                .maxAttempts(3)
+                .duration(Duration.ofMinutes(1))
+                .failurePolicy(failurePolicy)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.core.ratelimit.RedisCircuitBreaker;
+import com.r2s.core.ratelimit.RedisCircuitBreaker.State;
+import com.r2s.core.redis.CounterRedisTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisCircuitBreakerUnitTest {
+
+    @Mock
+    CounterRedisTemplate redis;
+
+    SimpleMeterRegistry meterRegistry;
+    RedisCircuitBreaker circuitBreaker;
+
+    RedisConnectionFailureException failure = new RedisConnectionFailureException("Connection refused");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new RedisCircuitBreaker(redis, meterRegistry, 3);
+    }
+
+    @Test
+    void onFailure_opensAfterConsecutiveFailures() {
+        circuitBreaker.onFailure(failure);
+        circuitBreaker.onFailure(failure);
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure(failure);
+        circuitBreaker.onFailure(failure);
+        assertEquals(State.CLOSED, circuitBreaker.state());
+
+        circuitBreaker.onFailure(failure);
+
+        assertEquals(State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(2.0, meterRegistry.get("rate.limit.breaker.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("rate.limit.breaker.transitions").tag("state", "open").counter().count());
+    }
+
+    @Test
+    void probe_halfOpensOnPing_andTrialSuccessCloses() {
+        open();
+        when(redis.execute(ArgumentMatchers.<RedisCallback<String>>any())).thenReturn("PONG");
+
+        circuitBreaker.probe();
+
+        assertEquals(State.HALF_OPEN, circuitBreaker.state());
+        assertTrue(circuitBreaker.allowRequest());
+        assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(1.0, meterRegistry.get("rate.limit.breaker.transitions").tag("state", "closed").counter().count());
+    }
+
+    @Test
+    void probe_failingPing_staysOpen_andFailedTrialReopens() {
+        open();
+        when(redis.execute(ArgumentMatchers.<RedisCallback<String>>any())).thenThrow(failure).thenReturn("PONG");
+
+        circuitBreaker.probe();
+        assertEquals(State.OPEN, circuitBreaker.state());
+
+        circuitBreaker.probe();
+        assertTrue(circuitBreaker.allowRequest());
+        circuitBreaker.onFailure(failure);
+
+        assertEquals(State.OPEN, circuitBreaker.state());
+        assertEquals(2.0, meterRegistry.get("rate.limit.breaker.transitions").tag("state", "open").counter().count());
+    }
+
+    @Test
+    void probe_closed_doesNotTouchRedis() {
+        circuitBreaker.probe();
+
+        verifyNoInteractions(redis);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(failure);
+        }
+    }
+}
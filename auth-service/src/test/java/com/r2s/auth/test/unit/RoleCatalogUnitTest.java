@@ -0,0 +1,71 @@
+package com.r2s.auth.test.unit;
+
+import com.r2s.auth.domain.role.RoleCatalog;
+import com.r2s.auth.domain.role.RoleNormalizerResolver;
+import com.r2s.auth.domain.role.normalizer.AppRoleNormalizerImpl;
+import com.r2s.auth.domain.role.normalizer.DefaultRoleNormalizerImpl;
+import com.r2s.auth.entity.Role;
+import com.r2s.auth.repository.UserRoleRepository;
+import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RoleCatalogUnitTest {
+
+    @Mock
+    UserRoleRepository userRoleRepository;
+
+    RoleCatalog roleCatalog;
+
+    Role userRole = Role.builder().id(1).name(RoleConstants.ROLE_USER).build();
+    Role adminRole = Role.builder().id(2).name(RoleConstants.ROLE_ADMIN).build();
+
+    @BeforeEach
+    void setUp() {
+        RoleNormalizerResolver resolver = new RoleNormalizerResolver(
+                List.of(new AppRoleNormalizerImpl(), new DefaultRoleNormalizerImpl())
+        );
+        roleCatalog = new RoleCatalog(userRoleRepository, resolver);
+        when(userRoleRepository.findAll()).thenReturn(List.of(userRole, adminRole));
+        roleCatalog.refresh();
+    }
+
+    @Test
+    void resolve_aliasAndCanonicalName_withoutQueries() {
+        assertSame(adminRole, roleCatalog.resolve("admin"));
+        assertSame(adminRole, roleCatalog.resolve(" role_admin "));
+        assertSame(userRole, roleCatalog.require(RoleConstants.ROLE_USER));
+        assertNull(roleCatalog.resolve(" "));
+        verify(userRoleRepository, times(1)).findAll();
+        verifyNoMoreInteractions(userRoleRepository);
+    }
+
+    @Test
+    void resolve_unknownRole_throwException() {
+        AppException ex = assertThrows(AppException.class,
+                () -> roleCatalog.resolve("AUTH_ADMIN"));
+        assertEquals(ErrorCode.ROLE_NOT_FOUND, ex.getErrorCode());
+    }
+
+    @Test
+    void refresh_picksUpNewRoles() {
+        Role appRole = Role.builder().id(3).name("APP_REPORTS").build();
+        when(userRoleRepository.findAll()).thenReturn(List.of(userRole, adminRole, appRole));
+
+        roleCatalog.refresh();
+
+        assertSame(appRole, roleCatalog.resolve("app_reports"));
+        assertTrue(roleCatalog.names().contains("APP_REPORTS"));
+    }
+}
@@ -1,17 +1,20 @@
 package com.r2s.auth.test.unit;
 
 import com.r2s.auth.domain.factory.UserFactory;
+import com.r2s.auth.domain.hashing.PasswordHasher;
 import com.r2s.auth.domain.helper.SecurityContextHelper;
-import com.r2s.auth.domain.role.RoleNormalizerResolver;
+import com.r2s.auth.domain.role.RoleCatalog;
 import com.r2s.auth.domain.validation.user.UserValidation;
 import com.r2s.auth.entity.Role;
 import com.r2s.auth.entity.User;
+import com.r2s.auth.repository.UserJdbcRepository;
 import com.r2s.auth.repository.UserRepository;
-import com.r2s.auth.repository.UserRoleRepository;
 import com.r2s.auth.service.UserService;
 import com.r2s.auth.service.impl.UserServiceImpl;
 import com.r2s.core.constants.RoleConstants;
+import com.r2s.core.dto.request.BulkRegisterRequest;
 import com.r2s.core.dto.request.RegisterRequest;
+import com.r2s.core.dto.response.BulkRegisterResponse;
 import com.r2s.core.dto.response.UserResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
@@ -20,8 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -36,16 +39,16 @@ public class UserServiceUnitTest {
     UserRepository userRepository;
 
     @Mock
-    UserRoleRepository userRoleRepository;
+    UserJdbcRepository userJdbcRepository;
 
     @Mock
-    PasswordEncoder passwordEncoder;
+    PasswordHasher passwordHasher;
 
     @Mock
     UserFactory userFactory;
 
     @Mock
-    RoleNormalizerResolver roleNormalizerResolver;
+    RoleCatalog roleCatalog;
 
     @Mock
     UserValidation userValidation;
@@ -67,10 +70,9 @@ public class UserServiceUnitTest {
                 .name(RoleConstants.ROLE_USER)
                 .build();
         User user = new User();
-        when(passwordEncoder.encode("pass")).thenReturn("encoded");
-        when(userRoleRepository.findByName(RoleConstants.ROLE_USER))
-                .thenReturn(Optional.of(userRole));
-        when(roleNormalizerResolver.normalize(null)).thenReturn(null);
+        when(passwordHasher.encode("pass")).thenReturn("encoded");
+        when(roleCatalog.require(RoleConstants.ROLE_USER)).thenReturn(userRole);
+        when(roleCatalog.resolve(null)).thenReturn(null);
         when(userFactory.create(eq(request), anySet(), eq("encoded")))
                 .thenReturn(user);
 
@@ -104,13 +106,49 @@ public class UserServiceUnitTest {
                 .password("pass")
                 .role("ADMIN")
                 .build();
-        when(userRoleRepository.findByName(RoleConstants.ROLE_USER))
+        when(roleCatalog.require(RoleConstants.ROLE_USER))
                 .thenThrow(new AppException(ErrorCode.ROLE_NOT_FOUND));
         AppException ex = assertThrows(AppException.class,
                 () -> userService.register(request));
         assertEquals(ErrorCode.ROLE_NOT_FOUND, ex.getErrorCode());
     }
 
+    @Test
+    void registerBulk_reportsEachItem() {
+        RegisterRequest fresh = RegisterRequest.builder().username("fresh").password("pass").build();
+        RegisterRequest taken = RegisterRequest.builder().username("taken").password("pass").build();
+        RegisterRequest duplicate = RegisterRequest.builder().username("fresh").password("pass").build();
+        RegisterRequest badRole = RegisterRequest.builder().username("bad").password("pass").role("AUTH_X").build();
+        Role userRole = Role.builder().id(1).name(RoleConstants.ROLE_USER).build();
+        when(roleCatalog.require(RoleConstants.ROLE_USER)).thenReturn(userRole);
+        when(roleCatalog.resolve(null)).thenReturn(null);
+        when(roleCatalog.resolve("AUTH_X")).thenThrow(new AppException(ErrorCode.ROLE_NOT_FOUND));
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("taken"));
+        when(passwordHasher.encodeAll(List.of("pass"))).thenReturn(List.of("encoded"));
+        when(userJdbcRepository.insertUsers(anyList())).thenAnswer(invocation -> {
+            List<UserJdbcRepository.NewUser> rows = invocation.getArgument(0);
+            assertEquals(1, rows.size());
+            assertEquals("encoded", rows.get(0).password());
+            assertEquals(Set.of(1), rows.get(0).roleIds());
+            return List.of(rows.get(0).id());
+        });
+
+        BulkRegisterResponse response = userService.registerBulk(
+                BulkRegisterRequest.builder()
+                        .users(List.of(fresh, taken, duplicate, badRole))
+                        .build()
+        );
+
+        assertEquals(1, response.getCreated());
+        assertEquals(3, response.getFailed());
+        assertTrue(response.getResults().get(0).isCreated());
+        assertNotNull(response.getResults().get(0).getId());
+        assertEquals(ErrorCode.USER_EXISTS.getCode(), response.getResults().get(1).getCode());
+        assertEquals(ErrorCode.USER_EXISTS.getCode(), response.getResults().get(2).getCode());
+        assertEquals(ErrorCode.ROLE_NOT_FOUND.getCode(), response.getResults().get(3).getCode());
+        verify(userRepository, never()).save(any());
+    }
+
     @Test
     void getMe_success() {
         UUID userId = UUID.randomUUID();
@@ -122,7 +160,7 @@ public class UserServiceUnitTest {
                 .roles(Set.of(role))
                 .build();
         when(securityContextHelper.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findWithRolesById(userId)).thenReturn(Optional.of(user));
         UserResponse response = userService.getMe();
         assertNotNull(response);
         assertEquals(userId, response.getId());
@@ -133,7 +171,7 @@ public class UserServiceUnitTest {
     void getMe_userNotFound_throwException() {
         UUID userId = UUID.randomUUID();
         when(securityContextHelper.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findWithRolesById(userId)).thenReturn(Optional.empty());
         AppException ex = assertThrows(AppException.class,
                 () -> userService.getMe());
         assertEquals(ErrorCode.USER_NOT_FOUND, ex.getErrorCode());
@@ -6,4 +6,12 @@ public final class RateLimitType {
     public static final int MAX_ATTEMPTS  = 5;
     public static final int TTL_SPAM_REQUEST = 1;
 
+    public static final String FIXED_WINDOW = "fixed_window";
+    public static final String SLIDING_WINDOW = "sliding_window";
+    public static final String TOKEN_BUCKET = "token_bucket";
+
+    public static final String FAIL_OPEN = "open";
+    public static final String FAIL_CLOSED = "closed";
+    public static final String FAIL_LOCAL = "local";
+
 }
@@ -4,4 +4,8 @@ public final class SecurityConstants {
     private SecurityConstants() {}
 
     public static final int BCRYPT_STRENGTH = 10;
+    public static final int BCRYPT_MAX_STRENGTH = 16;
+
+    public static final String ENCODER_BCRYPT = "bcrypt";
+    public static final String ENCODER_PBKDF2 = "pbkdf2";
 }
\ No newline at end of file
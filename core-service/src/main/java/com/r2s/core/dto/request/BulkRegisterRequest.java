@@ -0,0 +1,19 @@
+package com.r2s.core.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkRegisterRequest {
+    @NotEmpty(message = "users must not be empty")
+    @Size(max = 1000, message = "at most 1000 users per request")
+    List<RegisterRequest> users;
+}
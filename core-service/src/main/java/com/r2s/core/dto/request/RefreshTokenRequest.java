@@ -0,0 +1,15 @@
+package com.r2s.core.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RefreshTokenRequest {
+    @NotBlank(message = "refresh token must not be blank")
+    String refreshToken;
+}
@@ -0,0 +1,18 @@
+package com.r2s.core.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkRegisterResponse {
+    int created;
+    int failed;
+
+    List<BulkRegisterResult> results;
+}
@@ -0,0 +1,22 @@
+package com.r2s.core.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRegisterResult {
+    int index;
+    String username;
+    boolean created;
+    UUID id;
+    Integer code;
+    String message;
+}
@@ -0,0 +1,22 @@
+package com.r2s.core.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorPageResponse<T> {
+    int pageSize;
+
+    /**
+     * Opaque position after the last element of {@code data}; {@code null} on the last page.
+     */
+    String nextCursor;
+
+    List<T> data;
+}
@@ -14,4 +14,5 @@ public class RateLimitRule {
     String type;
     int maxAttempts;
     Duration duration;
+    String failurePolicy;
 }
@@ -0,0 +1,24 @@
+package com.r2s.core.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SliceResponse<T> {
+    int currentPage;
+    int pageSize;
+    boolean hasNext;
+
+    /**
+     * Only present when a total was requested; estimates and counters are approximate.
+     */
+    Long totalElements;
+
+    List<T> data;
+}
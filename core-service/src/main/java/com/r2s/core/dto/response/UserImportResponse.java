@@ -0,0 +1,28 @@
+package com.r2s.core.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResponse {
+    String jobId;
+    String status;
+
+    long linesProcessed;
+    long imported;
+    long skipped;
+    long rejected;
+
+    Long elapsedMillis;
+    Double rowsPerSecond;
+
+    List<String> rejections;
+}
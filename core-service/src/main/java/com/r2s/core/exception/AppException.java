@@ -3,12 +3,18 @@ package com.r2s.core.exception;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * Domain failure that is always mapped to its {@link ErrorCode} by {@link GlobalHandleException}.
+ * The stack trace is never read, so it is not captured; under reject-heavy traffic filling it in
+ * costs more than the rest of the error path.
+ */
 @Getter
 @Setter
 public class AppException extends RuntimeException {
     private ErrorCode errorCode;
 
     public AppException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
@@ -9,17 +9,27 @@ public enum ErrorCode {
 
     UNCATEGORIZED_EXCEPTION(9999, "Uncategorized error", HttpStatus.INTERNAL_SERVER_ERROR),
     TOO_MANY_REQUEST(429, "Too many requests", HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_UNAVAILABLE(503, "Service is busy, please try again later", HttpStatus.SERVICE_UNAVAILABLE),
 
     UNAUTHORIZED(1001, "You do not have permission", HttpStatus.UNAUTHORIZED),
     TOKEN_GENERATION_FAILED(1002, "Token generation failed", HttpStatus.UNAUTHORIZED),
     ACCOUNT_NOT_FOUND(1003, "Account not found", HttpStatus.NOT_FOUND),
     INVALID_REQUEST(1004, "Invalid request", HttpStatus.BAD_REQUEST),
     ROLE_NOT_FOUND(1005, "Role not found", HttpStatus.NOT_FOUND),
+    REFRESH_TOKEN_INVALID(1006, "Refresh token is invalid", HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_REUSED(1007, "Refresh token reuse detected", HttpStatus.UNAUTHORIZED),
+    INVALID_CURSOR(1008, "Cursor is invalid", HttpStatus.BAD_REQUEST),
+    SEARCH_QUERY_INVALID(1009, "Search query must be 3 to 100 characters", HttpStatus.BAD_REQUEST),
 
     USER_NOT_FOUND(2001, "User not found", HttpStatus.NOT_FOUND),
     USER_EXISTS(2002, "User exists", HttpStatus.BAD_REQUEST),
 
     PASSWORD_INVALID(2003, "Password is invalid", HttpStatus.UNAUTHORIZED),
+    IMPORT_FORMAT_INVALID(2004, "Import format is not supported", HttpStatus.BAD_REQUEST),
+    IMPORT_JOB_NOT_FOUND(2005, "Import job not found", HttpStatus.NOT_FOUND),
+    IMPORT_JOB_RUNNING(2006, "Import job is already running", HttpStatus.CONFLICT),
+    EXPORT_FORMAT_INVALID(2007, "Export format is not supported", HttpStatus.BAD_REQUEST),
+    IMPORT_JOB_ID_INVALID(2008, "Import job id must be 1 to 64 characters", HttpStatus.BAD_REQUEST),
     ;
 
     private final int code;
@@ -0,0 +1,56 @@
+package com.r2s.core.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.r2s.core.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@link ApiResponse} bodies for every {@link ErrorCode}, serialized once when the class loads.
+ * Rejection paths write these bytes as-is instead of building and serializing a response each time.
+ */
+public final class ErrorResponses {
+
+    private static final Map<ErrorCode, byte[]> BODIES = render();
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Returns the shared array; callers must not modify it.
+     */
+    public static byte[] body(ErrorCode errorCode) {
+        return BODIES.get(errorCode);
+    }
+
+    public static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = BODIES.get(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private static Map<ErrorCode, byte[]> render() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ApiResponse<?> apiResponse = ApiResponse.builder()
+                    .code(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(apiResponse));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot render error body for " + errorCode, e);
+            }
+        }
+        return bodies;
+    }
+}
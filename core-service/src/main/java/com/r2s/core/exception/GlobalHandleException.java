@@ -2,6 +2,7 @@ package com.r2s.core.exception;
 
 import com.r2s.core.dto.ApiResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -38,12 +39,10 @@ public class GlobalHandleException {
     }
 
     @ExceptionHandler(AppException.class)
-    public ResponseEntity<ApiResponse<?>> handleAppException(AppException e) {
-        ApiResponse<?> apiResponse = ApiResponse.builder()
-                .code(e.getErrorCode().getCode())
-                .message(e.getErrorCode().getMessage())
-                .build();
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(apiResponse);
+    public ResponseEntity<byte[]> handleAppException(AppException e) {
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponses.body(e.getErrorCode()));
     }
 
     @ExceptionHandler(AccessDeniedException.class)
@@ -0,0 +1,14 @@
+package com.r2s.core.ratelimit;
+
+/**
+ * Looks up who owns an {@code X-API-Key}. Without a store bean the API-key tier is off and callers are keyed
+ * by address, since an unchecked key would let a client open a fresh bucket per request.
+ */
+public interface ApiKeyStore {
+    ApiKeyStore NONE = apiKey -> null;
+
+    /**
+     * @return a stable id of the key's owner, or {@code null} when the key is unknown or revoked
+     */
+    String ownerOf(String apiKey);
+}
@@ -0,0 +1,59 @@
+package com.r2s.core.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Identifies the client by its verified JWT subject, then by the owner of a known API key, then by the remote
+ * address. A token that fails verification or a key the {@link ApiKeyStore} does not know falls through to the
+ * next identity, so callers cannot open fresh buckets by sending made-up credentials. Decoding goes through the
+ * shared {@link JwtDecoder}, whose verified-token cache the authentication filter hits again right after.
+ */
+@RequiredArgsConstructor
+public class ClientKeyResolver {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    public static final byte SUBJECT = 's';
+    public static final byte API_KEY = 'k';
+    public static final byte ADDRESS = 'a';
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+    private final ApiKeyStore apiKeyStore;
+
+    /**
+     * @return {@link RateLimitRedisKey#CLIENT_ID_BYTES} bytes identifying the client
+     */
+    public byte[] resolve(HttpServletRequest request) {
+        String auth = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (auth != null && auth.startsWith(BEARER_PREFIX)) {
+            String subject = verifiedSubject(auth.substring(BEARER_PREFIX.length()));
+            if (subject != null) {
+                return RateLimitRedisKey.clientId(SUBJECT, subject);
+            }
+        }
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && !apiKey.isBlank()) {
+            String owner = apiKeyStore.ownerOf(apiKey);
+            if (owner != null) {
+                return RateLimitRedisKey.clientId(API_KEY, owner);
+            }
+        }
+        return RateLimitRedisKey.clientId(ADDRESS, request.getRemoteAddr());
+    }
+
+    private String verifiedSubject(String token) {
+        try {
+            Jwt jwt = jwtDecoder.decode(token);
+            return jwt.getSubject();
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.redis.CounterRedisTemplate;
+import com.r2s.core.redis.LongRedisSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides requests from per-key in-memory buckets and pushes the admitted counts to Redis in one
+ * pipelined batch per sync interval.
+ * <p>
+ * An instance admits at most {@code floor(max * over-admission)} requests per key that Redis has not
+ * acknowledged yet; once that share is used the request flushes the bucket to Redis synchronously and
+ * Redis decides. With N instances the global count can therefore exceed {@code max} by at most N shares.
+ * An over-admission of {@code 0} sends every request to Redis.
+ */
+@Slf4j
+public class HybridRateLimiter {
+
+    private final CounterRedisTemplate redis;
+    private final RateLimitRedisKey redisKey;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> syncScript;
+    private final double overAdmission;
+    private final Map<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+    private volatile boolean scriptLoaded;
+
+    @SuppressWarnings("rawtypes")
+    public HybridRateLimiter(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey,
+            RedisScript<List> rateLimitSyncScript,
+            double overAdmission
+    ) {
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.syncScript = rateLimitSyncScript;
+        this.overAdmission = overAdmission;
+    }
+
+    public boolean tryAcquire(String baseKey, int max, Duration window) {
+        LocalBucket bucket = buckets.computeIfAbsent(baseKey, key -> new LocalBucket(key, max, window));
+        long now = System.currentTimeMillis();
+        if (bucket.blockedUntil > now) {
+            return false;
+        }
+        if (now >= bucket.windowEndsAt) {
+            bucket.resetWindow(now);
+        }
+
+        long share = (long) Math.floor(max * overAdmission);
+        while (true) {
+            long pending = bucket.pending.get();
+            long unconfirmed = bucket.inFlight.get() + pending;
+            if (unconfirmed >= share) {
+                break;
+            }
+            if (bucket.globalCount + unconfirmed >= max) {
+                return false;
+            }
+            if (bucket.pending.compareAndSet(pending, pending + 1)) {
+                return true;
+            }
+        }
+
+        long count = flush(bucket, bucket.takePending(1));
+        return count <= max;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.hybrid.sync-interval:100ms}")
+    public void sync() {
+        long now = System.currentTimeMillis();
+        List<LocalBucket> dirty = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        Iterator<LocalBucket> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            LocalBucket bucket = iterator.next();
+            long delta = bucket.takePending(0);
+            if (delta > 0) {
+                dirty.add(bucket);
+                deltas.add(delta);
+            } else if (now >= bucket.windowEndsAt && now >= bucket.blockedUntil) {
+                iterator.remove();
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        try {
+            loadScript();
+            List<byte[][]> keysAndArgs = new ArrayList<>(dirty.size());
+            for (int i = 0; i < dirty.size(); i++) {
+                keysAndArgs.add(arguments(dirty.get(i), deltas.get(i)));
+            }
+            List<List<Object>> results = redis.evalShaAll(syncScript.getSha1(), 2, keysAndArgs);
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).apply(results.get(i), deltas.get(i), now);
+            }
+        } catch (RuntimeException e) {
+            scriptLoaded = false;
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).restorePending(deltas.get(i), deltas.get(i));
+            }
+            log.warn("Rate limit sync of {} buckets failed, retrying next interval: {}", dirty.size(), e.getMessage());
+        }
+    }
+
+    private long flush(LocalBucket bucket, long delta) {
+        List<?> result;
+        try {
+            result = redis.execute(
+                    syncScript,
+                    List.of(bucket.key, redisKey.blocked(bucket.key)),
+                    delta,
+                    (long) bucket.max,
+                    bucket.window.toMillis()
+            );
+        } catch (RuntimeException e) {
+            bucket.restorePending(delta, delta - 1);
+            throw e;
+        }
+        return bucket.apply(result, delta, System.currentTimeMillis());
+    }
+
+    private void loadScript() {
+        if (!scriptLoaded) {
+            redis.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(bytes(syncScript.getScriptAsString())));
+            scriptLoaded = true;
+        }
+    }
+
+    private byte[][] arguments(LocalBucket bucket, long delta) {
+        return new byte[][]{
+                bytes(bucket.key),
+                bytes(redisKey.blocked(bucket.key)),
+                LongRedisSerializer.encode(delta),
+                LongRedisSerializer.encode(bucket.max),
+                LongRedisSerializer.encode(bucket.window.toMillis())
+        };
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class LocalBucket {
+        final String key;
+        final int max;
+        final Duration window;
+        final AtomicLong pending = new AtomicLong();
+        final AtomicLong inFlight = new AtomicLong();
+        volatile long globalCount;
+        volatile long windowEndsAt;
+        volatile long blockedUntil;
+
+        LocalBucket(String key, int max, Duration window) {
+            this.key = key;
+            this.max = max;
+            this.window = window;
+            this.windowEndsAt = System.currentTimeMillis() + window.toMillis();
+        }
+
+        void resetWindow(long now) {
+            globalCount = 0;
+            windowEndsAt = now + window.toMillis();
+        }
+
+        /**
+         * Moves the locally admitted count to {@code inFlight} so it keeps counting against the limit
+         * until Redis has acknowledged it. {@code inFlight} grows before {@code pending} shrinks, so a
+         * concurrent reader may count the moved requests twice but never misses them.
+         */
+        long takePending(long current) {
+            long taken = pending.get();
+            inFlight.addAndGet(taken + current);
+            pending.addAndGet(-taken);
+            return taken + current;
+        }
+
+        void restorePending(long taken, long admitted) {
+            pending.addAndGet(admitted);
+            inFlight.addAndGet(-taken);
+        }
+
+        long apply(List<?> result, long delta, long now) {
+            long count = ((Number) result.get(0)).longValue();
+            globalCount = count;
+            inFlight.addAndGet(-delta);
+            windowEndsAt = now + ((Number) result.get(1)).longValue();
+            long blockedTtl = ((Number) result.get(2)).longValue();
+            blockedUntil = blockedTtl > 0 ? now + blockedTtl : 0;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.r2s.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.r2s.core.dto.response.RateLimitRule;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Degraded limiter for rules with the {@code local} failure policy while Redis is unavailable. Every rule type
+ * is approximated by an in-memory GCRA with burst {@code maxAttempts} refilled over {@code duration}, so limits
+ * hold per instance rather than globally.
+ */
+public class LocalRateLimiter {
+
+    private final Cache<String, AtomicLong> arrivals;
+
+    public LocalRateLimiter(
+            long maxKeys,
+            Duration idleTimeout
+    ) {
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    public boolean tryAcquire(String baseKey, RateLimitRule rule) {
+        long interval = rule.getDuration().toNanos() / rule.getMaxAttempts();
+        long tolerance = interval * (rule.getMaxAttempts() - 1);
+        long now = System.nanoTime();
+        AtomicLong arrival = arrivals.get(baseKey, key -> new AtomicLong(now));
+        while (true) {
+            long tat = arrival.get();
+            long start = tat - now < 0 ? now : tat;
+            if (start - now > tolerance) {
+                return false;
+            }
+            if (arrival.compareAndSet(tat, start + interval)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.ratelimit.algorithm.FixedWindowRateLimitAlgorithmImpl;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithm;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import com.r2s.core.ratelimit.algorithm.SlidingWindowRateLimitAlgorithmImpl;
+import com.r2s.core.ratelimit.algorithm.TokenBucketRateLimitAlgorithmImpl;
+import com.r2s.core.redis.CounterRedisTemplate;
+import com.r2s.core.redis.HotPathRedisAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.List;
+
+/**
+ * Servlet rate limiting on the hot-path {@link CounterRedisTemplate}, enabled with {@code rate-limit.enabled=true}.
+ * The service adds the {@link RateLimitBlockFilter} bean to its security chain and declares its routes under
+ * {@code rate-limit.rules}.
+ */
+@AutoConfiguration(after = HotPathRedisAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(RedisTemplate.class)
+@ConditionalOnBean(CounterRedisTemplate.class)
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RateLimitProperties.class)
+@EnableScheduling
+public class RateLimitAutoConfiguration {
+
+    @Bean
+    public RateLimitRedisKey rateLimitRedisKey() {
+        return new RateLimitRedisKey();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ClientKeyResolver clientKeyResolver(JwtDecoder jwtDecoder, ObjectProvider<ApiKeyStore> apiKeyStore) {
+        return new ClientKeyResolver(jwtDecoder, apiKeyStore.getIfAvailable(() -> ApiKeyStore.NONE));
+    }
+
+    @Bean
+    public FixedWindowRateLimitAlgorithmImpl fixedWindowRateLimitAlgorithm(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey
+    ) {
+        return new FixedWindowRateLimitAlgorithmImpl(redis, redisKey, RateLimitScripts.fixedWindow());
+    }
+
+    @Bean
+    public SlidingWindowRateLimitAlgorithmImpl slidingWindowRateLimitAlgorithm(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey
+    ) {
+        return new SlidingWindowRateLimitAlgorithmImpl(redis, redisKey, RateLimitScripts.slidingWindow());
+    }
+
+    @Bean
+    public TokenBucketRateLimitAlgorithmImpl tokenBucketRateLimitAlgorithm(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey
+    ) {
+        return new TokenBucketRateLimitAlgorithmImpl(redis, redisKey, RateLimitScripts.tokenBucket());
+    }
+
+    @Bean
+    public RateLimitAlgorithmResolver rateLimitAlgorithmResolver(List<RateLimitAlgorithm> algorithms) {
+        return new RateLimitAlgorithmResolver(algorithms);
+    }
+
+    @Bean
+    public RateLimitRuleRegistry rateLimitRuleRegistry(
+            RateLimitProperties properties,
+            RateLimitAlgorithmResolver algorithms
+    ) {
+        return new RateLimitRuleRegistry(properties, algorithms);
+    }
+
+    @Bean
+    public HybridRateLimiter hybridRateLimiter(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey,
+            RateLimitProperties properties
+    ) {
+        return new HybridRateLimiter(
+                redis, redisKey, RateLimitScripts.hybridSync(), properties.getHybrid().getOverAdmission()
+        );
+    }
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+            CounterRedisTemplate redis,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            RateLimitProperties properties
+    ) {
+        return new RedisCircuitBreaker(
+                redis, meterRegistry(meterRegistry), properties.getBreaker().getFailureThreshold()
+        );
+    }
+
+    @Bean
+    public LocalRateLimiter localRateLimiter(RateLimitProperties properties) {
+        return new LocalRateLimiter(
+                properties.getLocal().getMaxKeys(), properties.getLocal().getIdleTimeout()
+        );
+    }
+
+    @Bean
+    public RateLimitService rateLimitService(
+            RateLimitAlgorithmResolver algorithms,
+            HybridRateLimiter hybridRateLimiter,
+            RedisCircuitBreaker circuitBreaker,
+            LocalRateLimiter localRateLimiter,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            RateLimitProperties properties
+    ) {
+        return new RateLimitService(
+                algorithms,
+                hybridRateLimiter,
+                circuitBreaker,
+                localRateLimiter,
+                meterRegistry(meterRegistry),
+                properties.getMode()
+        );
+    }
+
+    @Bean
+    public RateLimitBlockFilter rateLimitBlockFilter(
+            RateLimitService rateLimitService,
+            RateLimitRedisKey redisKey,
+            RateLimitRuleRegistry ruleRegistry,
+            ClientKeyResolver clientKeyResolver,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new RateLimitBlockFilter(
+                rateLimitService, redisKey, ruleRegistry, clientKeyResolver, meterRegistry(meterRegistry)
+        );
+    }
+
+    private static MeterRegistry meterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+}
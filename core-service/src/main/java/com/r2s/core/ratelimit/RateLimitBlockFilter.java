@@ -0,0 +1,80 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.exception.ErrorResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Register it in the security chain before {@code BearerTokenAuthenticationFilter} so rejected requests never
+ * reach token verification or the controllers.
+ */
+public class RateLimitBlockFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final RateLimitRedisKey redisKey;
+    private final RateLimitRuleRegistry ruleRegistry;
+    private final ClientKeyResolver clientKeyResolver;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public RateLimitBlockFilter(
+            RateLimitService rateLimitService,
+            RateLimitRedisKey redisKey,
+            RateLimitRuleRegistry ruleRegistry,
+            ClientKeyResolver clientKeyResolver,
+            MeterRegistry meterRegistry
+    ) {
+        this.rateLimitService = rateLimitService;
+        this.redisKey = redisKey;
+        this.ruleRegistry = ruleRegistry;
+        this.clientKeyResolver = clientKeyResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain
+    ) throws IOException, ServletException {
+
+        byte[] clientId = clientKeyResolver.resolve(request);
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitRuleRegistry.MatchedRule matched = ruleRegistry.match(request.getMethod(), path);
+
+        String baseKey = redisKey.base(
+                request.getMethod(),
+                matched.id(),
+                clientId
+        );
+
+        boolean allowed = rateLimitService.checkAndConsume(baseKey, matched.rule());
+        counters.computeIfAbsent(matched.route(), this::requestCounters)[allowed ? 0 : 1].increment();
+
+        if (!allowed) {
+            ErrorResponses.write(response, ErrorCode.TOO_MANY_REQUEST);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private Counter[] requestCounters(String route) {
+        return new Counter[]{
+                Counter.builder(RateLimitMetrics.REQUESTS).tag("route", route).tag("outcome", "allowed")
+                        .register(meterRegistry),
+                Counter.builder(RateLimitMetrics.REQUESTS).tag("route", route).tag("outcome", "rejected")
+                        .register(meterRegistry)
+        };
+    }
+}
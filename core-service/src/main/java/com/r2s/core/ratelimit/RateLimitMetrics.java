@@ -0,0 +1,14 @@
+package com.r2s.core.ratelimit;
+
+/**
+ * Meter names shared by every service that enables the limiter; services are told apart by the
+ * {@code application} common tag.
+ */
+public final class RateLimitMetrics {
+    private RateLimitMetrics() {}
+
+    public static final String REQUESTS = "rate.limit.requests";
+    public static final String FALLBACK = "rate.limit.fallback";
+    public static final String BREAKER_STATE = "rate.limit.breaker.state";
+    public static final String BREAKER_TRANSITIONS = "rate.limit.breaker.transitions";
+}
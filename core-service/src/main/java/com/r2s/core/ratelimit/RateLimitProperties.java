@@ -0,0 +1,76 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RateLimitProperties {
+    boolean enabled;
+    String mode = RateLimitService.MODE_REDIS;
+    Hybrid hybrid = new Hybrid();
+    Breaker breaker = new Breaker();
+    Local local = new Local();
+    RateLimitRule defaultRule = RateLimitRule.builder()
+            .type(RateLimitType.FIXED_WINDOW)
+            .maxAttempts(RateLimitType.MAX_ATTEMPTS)
+            .duration(Duration.ofMinutes(RateLimitType.TTL_SPAM_REQUEST))
+            .failurePolicy(RateLimitType.FAIL_LOCAL)
+            .build();
+    List<Route> rules = new ArrayList<>();
+
+    /**
+     * A rule bound to requests whose path matches {@code path} (a {@code PathPattern}); a missing
+     * {@code method} matches every method. {@code failurePolicy} decides requests while Redis is
+     * unavailable and defaults to {@code local}.
+     */
+    @Data
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Route {
+        String method;
+        String path;
+        String type;
+        int maxAttempts;
+        Duration duration;
+        String failurePolicy;
+
+        public RateLimitRule toRule() {
+            return RateLimitRule.builder()
+                    .type(type)
+                    .maxAttempts(maxAttempts)
+                    .duration(duration)
+                    .failurePolicy(failurePolicy)
+                    .build();
+        }
+    }
+
+    @Data
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Hybrid {
+        double overAdmission = 0.1;
+        Duration syncInterval = Duration.ofMillis(100);
+    }
+
+    @Data
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Breaker {
+        int failureThreshold = 5;
+        Duration probeInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Local {
+        long maxKeys = 100_000;
+        Duration idleTimeout = Duration.ofMinutes(10);
+    }
+}
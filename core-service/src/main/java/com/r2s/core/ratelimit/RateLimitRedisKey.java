@@ -0,0 +1,101 @@
+package com.r2s.core.ratelimit;
+
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Keys are {@code rl:{<client>}:<rule>}, both parts truncated SHA-256 digests written as base64url, so every
+ * base key is exactly {@value #BASE_KEY_LENGTH} bytes whatever the token, path or address length. The client
+ * part is the Redis Cluster hash tag: a client's counter and its block flag always land in the same slot, which
+ * the multi-key scripts require.
+ */
+public class RateLimitRedisKey {
+
+    public static final int CLIENT_ID_BYTES = 16;
+    public static final int BASE_KEY_LENGTH = 36;
+
+    private static final int RULE_ID_BYTES = 6;
+    private static final byte[] PREFIX = {'r', 'l', ':', '{'};
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * @param kind  namespace of {@code value} (subject, API key, address), so equal values of different kinds
+     *              never share a bucket
+     */
+    public static byte[] clientId(byte kind, String value) {
+        MessageDigest digest = SHA_256.get();
+        digest.update(kind);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        byte[] id = new byte[CLIENT_ID_BYTES];
+        System.arraycopy(hash, 0, id, 0, CLIENT_ID_BYTES);
+        return id;
+    }
+
+    public String base(String method, String ruleId, byte[] clientId) {
+        if (clientId.length != CLIENT_ID_BYTES) {
+            throw new IllegalArgumentException("Client id must be " + CLIENT_ID_BYTES + " bytes");
+        }
+        MessageDigest digest = SHA_256.get();
+        digest.update(method.getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ' ');
+        digest.update(ruleId.getBytes(StandardCharsets.UTF_8));
+        byte[] ruleHash = digest.digest();
+
+        byte[] key = new byte[BASE_KEY_LENGTH];
+        System.arraycopy(PREFIX, 0, key, 0, PREFIX.length);
+        int offset = encode(clientId, CLIENT_ID_BYTES, key, PREFIX.length);
+        key[offset++] = '}';
+        key[offset++] = ':';
+        encode(ruleHash, RULE_ID_BYTES, key, offset);
+        return new String(key, StandardCharsets.US_ASCII);
+    }
+
+    public String blocked(String baseKey) {
+        return baseKey + ":b";
+    }
+
+    public String slidingWindow(String baseKey) {
+        return baseKey + ":sw";
+    }
+
+    public String tokenBucket(String baseKey) {
+        return baseKey + ":tb";
+    }
+
+    /**
+     * Unpadded base64url of {@code src[0, length)} into {@code dst} at {@code offset}.
+     *
+     * @return offset after the last written byte
+     */
+    private static int encode(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[offset++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 12 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 6 & 0x3f];
+            dst[offset++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining > 0) {
+            int bits = (src[i] & 0xff) << 16 | (remaining == 2 ? (src[i + 1] & 0xff) << 8 : 0);
+            dst[offset++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 12 & 0x3f];
+            if (remaining == 2) {
+                dst[offset++] = BASE64_URL[bits >>> 6 & 0x3f];
+            }
+        }
+        return offset;
+    }
+}
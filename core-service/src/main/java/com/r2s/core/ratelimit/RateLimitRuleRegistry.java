@@ -0,0 +1,80 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Maps a request to the first configured route whose method and path pattern match, in declaration
+ * order, falling back to {@code rate-limit.default-rule}. Rules are validated once at startup.
+ */
+@Slf4j
+public class RateLimitRuleRegistry {
+
+    public static final String DEFAULT_ROUTE = "default";
+
+    private static final Set<String> FAILURE_POLICIES =
+            Set.of(RateLimitType.FAIL_OPEN, RateLimitType.FAIL_CLOSED, RateLimitType.FAIL_LOCAL);
+
+    private final List<Route> routes;
+    private final RateLimitRule defaultRule;
+
+    public RateLimitRuleRegistry(RateLimitProperties properties, RateLimitAlgorithmResolver algorithms) {
+        this.defaultRule = validate(properties.getDefaultRule(), "default", algorithms);
+        this.routes = properties.getRules().stream()
+                .map(route -> new Route(
+                        route.getMethod() == null ? null : route.getMethod().toUpperCase(Locale.ROOT),
+                        PathPatternParser.defaultInstance.parse(route.getPath()),
+                        validate(route.toRule(), route.getPath(), algorithms)
+                ))
+                .toList();
+        log.info("Rate limit rules loaded: {} routes, default {}", routes.size(), defaultRule);
+    }
+
+    /**
+     * @param path request path without the context path
+     * @return the matching rule; its {@code id} is the route pattern, or the path itself for the default
+     * rule, so every path matched by one pattern shares a single counter. {@code route} is the pattern or
+     * {@value #DEFAULT_ROUTE} and is safe to use as a metric tag
+     */
+    public MatchedRule match(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if ((route.method() == null || route.method().equals(method)) && route.pattern().matches(container)) {
+                String pattern = route.pattern().getPatternString();
+                return new MatchedRule(pattern, pattern, route.rule());
+            }
+        }
+        return new MatchedRule(path, DEFAULT_ROUTE, defaultRule);
+    }
+
+    private static RateLimitRule validate(RateLimitRule rule, String name, RateLimitAlgorithmResolver algorithms) {
+        algorithms.resolve(rule.getType());
+        if (rule.getMaxAttempts() <= 0 || rule.getDuration() == null || rule.getDuration().isNegative()
+                || rule.getDuration().isZero()) {
+            throw new IllegalArgumentException("Invalid rate limit rule for " + name + ": " + rule);
+        }
+        String policy = rule.getFailurePolicy() == null
+                ? RateLimitType.FAIL_LOCAL
+                : rule.getFailurePolicy().toLowerCase(Locale.ROOT);
+        if (!FAILURE_POLICIES.contains(policy)) {
+            throw new IllegalArgumentException("Unknown rate limit failure policy for " + name + ": " + rule);
+        }
+        rule.setFailurePolicy(policy);
+        return rule;
+    }
+
+    public record MatchedRule(String id, String route, RateLimitRule rule) {
+    }
+
+    private record Route(String method, PathPattern pattern, RateLimitRule rule) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.r2s.core.ratelimit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+public final class RateLimitScripts {
+    private RateLimitScripts() {}
+
+    private static final String LOCATION = "scripts/ratelimit/";
+
+    public static RedisScript<Long> fixedWindow() {
+        return RedisScript.of(new ClassPathResource(LOCATION + "rate_limit.lua"), Long.class);
+    }
+
+    public static RedisScript<Long> slidingWindow() {
+        return RedisScript.of(new ClassPathResource(LOCATION + "sliding_window.lua"), Long.class);
+    }
+
+    public static RedisScript<Long> tokenBucket() {
+        return RedisScript.of(new ClassPathResource(LOCATION + "token_bucket.lua"), Long.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static RedisScript<List> hybridSync() {
+        return RedisScript.of(new ClassPathResource(LOCATION + "rate_limit_sync.lua"), List.class);
+    }
+}
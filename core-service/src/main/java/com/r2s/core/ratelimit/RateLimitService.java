@@ -0,0 +1,91 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithm;
+import com.r2s.core.ratelimit.algorithm.RateLimitAlgorithmResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Each algorithm runs as one server-side script, so a request costs a single EVALSHA round trip and
+ * no key can be left without a TTL. In {@code hybrid} mode fixed-window rules are decided locally by
+ * {@link HybridRateLimiter}; the other algorithms always go to Redis.
+ * <p>
+ * Redis calls go through {@link RedisCircuitBreaker}. When a call fails for any reason or the breaker is open
+ * the rule's failure policy decides: {@code open} admits, {@code closed} rejects, {@code local} asks
+ * {@link LocalRateLimiter}.
+ */
+public class RateLimitService {
+
+    public static final String MODE_REDIS = "redis";
+    public static final String MODE_HYBRID = "hybrid";
+
+    private final RateLimitAlgorithmResolver algorithms;
+    private final HybridRateLimiter hybridRateLimiter;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final LocalRateLimiter localRateLimiter;
+    private final boolean hybrid;
+    private final Counter failOpenCounter;
+    private final Counter failClosedCounter;
+    private final Counter failLocalCounter;
+
+    public RateLimitService(
+            RateLimitAlgorithmResolver algorithms,
+            HybridRateLimiter hybridRateLimiter,
+            RedisCircuitBreaker circuitBreaker,
+            LocalRateLimiter localRateLimiter,
+            MeterRegistry meterRegistry,
+            String mode
+    ) {
+        this.algorithms = algorithms;
+        this.hybridRateLimiter = hybridRateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.localRateLimiter = localRateLimiter;
+        this.hybrid = MODE_HYBRID.equalsIgnoreCase(mode);
+        this.failOpenCounter = fallbackCounter(meterRegistry, RateLimitType.FAIL_OPEN);
+        this.failClosedCounter = fallbackCounter(meterRegistry, RateLimitType.FAIL_CLOSED);
+        this.failLocalCounter = fallbackCounter(meterRegistry, RateLimitType.FAIL_LOCAL);
+    }
+
+    public boolean checkAndConsume(String baseKey, RateLimitRule rule) {
+        boolean useHybrid = hybrid && RateLimitType.FIXED_WINDOW.equalsIgnoreCase(rule.getType());
+        RateLimitAlgorithm algorithm = useHybrid ? null : algorithms.resolve(rule.getType());
+        if (!circuitBreaker.allowRequest()) {
+            return fallback(baseKey, rule);
+        }
+        try {
+            boolean allowed = useHybrid
+                    ? hybridRateLimiter.tryAcquire(baseKey, rule.getMaxAttempts(), rule.getDuration())
+                    : algorithm.tryAcquire(baseKey, rule);
+            circuitBreaker.onSuccess();
+            return allowed;
+        } catch (RuntimeException e) {
+            // not only DataAccessException: a script or codec error must still release a half-open trial
+            circuitBreaker.onFailure(e);
+            return fallback(baseKey, rule);
+        }
+    }
+
+    private boolean fallback(String baseKey, RateLimitRule rule) {
+        String policy = rule.getFailurePolicy() == null ? RateLimitType.FAIL_LOCAL : rule.getFailurePolicy();
+        return switch (policy) {
+            case RateLimitType.FAIL_OPEN -> {
+                failOpenCounter.increment();
+                yield true;
+            }
+            case RateLimitType.FAIL_CLOSED -> {
+                failClosedCounter.increment();
+                yield false;
+            }
+            default -> {
+                failLocalCounter.increment();
+                yield localRateLimiter.tryAcquire(baseKey, rule);
+            }
+        };
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String policy) {
+        return Counter.builder(RateLimitMetrics.FALLBACK).tag("policy", policy).register(meterRegistry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.r2s.core.ratelimit;
+
+import com.r2s.core.redis.CounterRedisTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Opens after {@code failure-threshold} consecutive Redis failures, including command timeouts. While open no
+ * request waits on Redis; a background PING moves the breaker to half-open, where a single trial request
+ * decides between closing it again and reopening it.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final CounterRedisTemplate redis;
+    private final int failureThreshold;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    public RedisCircuitBreaker(
+            CounterRedisTemplate redis,
+            MeterRegistry meterRegistry,
+            int failureThreshold
+    ) {
+        this.redis = redis;
+        this.failureThreshold = failureThreshold;
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder(RateLimitMetrics.BREAKER_TRANSITIONS)
+                    .tag("state", target.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        Gauge.builder(RateLimitMetrics.BREAKER_STATE, state, current -> current.get().ordinal())
+                .description("0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    public boolean allowRequest() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case HALF_OPEN -> trialInFlight.compareAndSet(false, true);
+            case OPEN -> false;
+        };
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.CLOSED);
+            trialInFlight.set(false);
+        }
+    }
+
+    public void onFailure(RuntimeException e) {
+        if (state.get() == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.OPEN);
+            trialInFlight.set(false);
+            return;
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold && transition(State.CLOSED, State.OPEN)) {
+            log.warn("Redis rate limiter failed {} times in a row, last error: {}", failures, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.breaker.probe-interval:1s}")
+    public void probe() {
+        if (state.get() != State.OPEN) {
+            return;
+        }
+        try {
+            redis.execute((RedisCallback<String>) RedisConnectionCommands::ping);
+            transition(State.OPEN, State.HALF_OPEN);
+        } catch (DataAccessException e) {
+            log.debug("Redis probe failed: {}", e.getMessage());
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        consecutiveFailures.set(0);
+        transitions.get(to).increment();
+        log.warn("Rate limit circuit breaker {} -> {}", from, to);
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.r2s.core.ratelimit.algorithm;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.redis.CounterRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * One counter per window plus a block flag; a client that exceeds the limit stays blocked for a full
+ * window. Cheapest encoding, but allows up to twice the limit across a window edge.
+ */
+public class FixedWindowRateLimitAlgorithmImpl implements RateLimitAlgorithm {
+
+    private static final Long ALLOWED = 1L;
+
+    private final CounterRedisTemplate redis;
+    private final RateLimitRedisKey redisKey;
+    private final RedisScript<Long> script;
+
+    public FixedWindowRateLimitAlgorithmImpl(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey,
+            RedisScript<Long> script
+    ) {
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.script = script;
+    }
+
+    @Override
+    public String type() {
+        return RateLimitType.FIXED_WINDOW;
+    }
+
+    @Override
+    public boolean tryAcquire(String baseKey, RateLimitRule rule) {
+        Long result = redis.execute(
+                script,
+                List.of(baseKey, redisKey.blocked(baseKey)),
+                (long) rule.getMaxAttempts(),
+                rule.getDuration().toMillis()
+        );
+        return ALLOWED.equals(result);
+    }
+}
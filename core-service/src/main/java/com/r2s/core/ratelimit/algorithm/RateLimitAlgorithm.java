@@ -0,0 +1,8 @@
+package com.r2s.core.ratelimit.algorithm;
+
+import com.r2s.core.dto.response.RateLimitRule;
+
+public interface RateLimitAlgorithm {
+    String type();
+    boolean tryAcquire(String baseKey, RateLimitRule rule);
+}
@@ -0,0 +1,25 @@
+package com.r2s.core.ratelimit.algorithm;
+
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class RateLimitAlgorithmResolver {
+    private final Map<String, RateLimitAlgorithm> algorithms;
+
+    public RateLimitAlgorithmResolver(List<RateLimitAlgorithm> algorithms) {
+        this.algorithms = algorithms.stream()
+                .collect(Collectors.toUnmodifiableMap(RateLimitAlgorithm::type, Function.identity()));
+    }
+
+    public RateLimitAlgorithm resolve(String type) {
+        RateLimitAlgorithm algorithm = type == null ? null : algorithms.get(type.toLowerCase(Locale.ROOT));
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unknown rate limit type: " + type);
+        }
+        return algorithm;
+    }
+}
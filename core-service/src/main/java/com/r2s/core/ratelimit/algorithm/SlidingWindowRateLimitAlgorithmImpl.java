@@ -0,0 +1,48 @@
+package com.r2s.core.ratelimit.algorithm;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.redis.CounterRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Sliding window counter: the current and previous window counts live as two fields of one hash and
+ * the previous one is weighted by its remaining overlap, which smooths out the fixed-window edge burst.
+ */
+public class SlidingWindowRateLimitAlgorithmImpl implements RateLimitAlgorithm {
+
+    private static final Long ALLOWED = 1L;
+
+    private final CounterRedisTemplate redis;
+    private final RateLimitRedisKey redisKey;
+    private final RedisScript<Long> script;
+
+    public SlidingWindowRateLimitAlgorithmImpl(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey,
+            RedisScript<Long> script
+    ) {
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.script = script;
+    }
+
+    @Override
+    public String type() {
+        return RateLimitType.SLIDING_WINDOW;
+    }
+
+    @Override
+    public boolean tryAcquire(String baseKey, RateLimitRule rule) {
+        Long result = redis.execute(
+                script,
+                List.of(redisKey.slidingWindow(baseKey)),
+                (long) rule.getMaxAttempts(),
+                rule.getDuration().toMillis()
+        );
+        return ALLOWED.equals(result);
+    }
+}
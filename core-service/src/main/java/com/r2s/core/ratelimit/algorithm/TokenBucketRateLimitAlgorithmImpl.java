@@ -0,0 +1,49 @@
+package com.r2s.core.ratelimit.algorithm;
+
+import com.r2s.core.constants.RateLimitType;
+import com.r2s.core.dto.response.RateLimitRule;
+import com.r2s.core.ratelimit.RateLimitRedisKey;
+import com.r2s.core.redis.CounterRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Token bucket implemented as GCRA: {@code maxAttempts} is the burst size and the bucket refills
+ * completely over {@code duration}. Redis stores a single timestamp per client instead of a count
+ * and a refill time.
+ */
+public class TokenBucketRateLimitAlgorithmImpl implements RateLimitAlgorithm {
+
+    private static final Long ALLOWED = 1L;
+
+    private final CounterRedisTemplate redis;
+    private final RateLimitRedisKey redisKey;
+    private final RedisScript<Long> script;
+
+    public TokenBucketRateLimitAlgorithmImpl(
+            CounterRedisTemplate redis,
+            RateLimitRedisKey redisKey,
+            RedisScript<Long> script
+    ) {
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.script = script;
+    }
+
+    @Override
+    public String type() {
+        return RateLimitType.TOKEN_BUCKET;
+    }
+
+    @Override
+    public boolean tryAcquire(String baseKey, RateLimitRule rule) {
+        Long result = redis.execute(
+                script,
+                List.of(redisKey.tokenBucket(baseKey)),
+                (long) rule.getMaxAttempts(),
+                rule.getDuration().toMillis()
+        );
+        return ALLOWED.equals(result);
+    }
+}
@@ -0,0 +1,104 @@
+package com.r2s.core.redis;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceExceptionConverter;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Template for hot-path counters, flags and scripts: ASCII keys and {@link LongRedisSerializer} values, so script
+ * arguments and results travel as Redis integers instead of JSON. Payload-shaped values belong on the general
+ * {@code RedisTemplate}.
+ */
+public class CounterRedisTemplate extends RedisTemplate<String, Long> implements DisposableBean {
+
+    private static final LettuceExceptionConverter EXCEPTION_CONVERTER = new LettuceExceptionConverter();
+    private static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofSeconds(1);
+
+    private final LettuceConnectionFactory ownedConnectionFactory;
+
+    public CounterRedisTemplate(RedisConnectionFactory connectionFactory) {
+        this(connectionFactory, null);
+    }
+
+    /**
+     * @param ownedConnectionFactory dedicated connection created for this template, closed with it
+     */
+    CounterRedisTemplate(RedisConnectionFactory connectionFactory, LettuceConnectionFactory ownedConnectionFactory) {
+        this.ownedConnectionFactory = ownedConnectionFactory;
+        setKeySerializer(StringRedisSerializer.US_ASCII);
+        setHashKeySerializer(StringRedisSerializer.US_ASCII);
+        setValueSerializer(LongRedisSerializer.INSTANCE);
+        setHashValueSerializer(LongRedisSerializer.INSTANCE);
+        setConnectionFactory(connectionFactory);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs {@code EVALSHA} with a multi-bulk reply once per entry of {@code keysAndArgs} (the first {@code numKeys}
+     * elements are keys). All commands are written back to back on the shared native connection before any reply
+     * is awaited, so a batch costs one round trip; {@code executePipelined} would open and close a dedicated
+     * connection for every call instead.
+     */
+    @SuppressWarnings("unchecked")
+    public List<List<Object>> evalShaAll(String sha1, int numKeys, List<byte[][]> keysAndArgs) {
+        Duration timeout = batchTimeout();
+        return execute((RedisCallback<List<List<Object>>>) connection -> {
+            RedisClusterAsyncCommands<byte[], byte[]> commands =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            List<RedisFuture<List<Object>>> futures = new ArrayList<>(keysAndArgs.size());
+            for (byte[][] entry : keysAndArgs) {
+                futures.add(commands.evalsha(
+                        sha1,
+                        ScriptOutputType.MULTI,
+                        Arrays.copyOfRange(entry, 0, numKeys),
+                        Arrays.copyOfRange(entry, numKeys, entry.length)
+                ));
+            }
+            List<List<Object>> results = new ArrayList<>(futures.size());
+            try {
+                for (RedisFuture<List<Object>> future : futures) {
+                    results.add(LettuceFutures.awaitOrCancel(future, timeout.toNanos(), TimeUnit.NANOSECONDS));
+                }
+            } catch (RuntimeException e) {
+                futures.forEach(future -> future.cancel(false));
+                throw translate(e);
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (ownedConnectionFactory != null) {
+            ownedConnectionFactory.destroy();
+        }
+    }
+
+    private Duration batchTimeout() {
+        if (getConnectionFactory() instanceof LettuceConnectionFactory lettuce) {
+            return lettuce.getClientConfiguration().getCommandTimeout();
+        }
+        return DEFAULT_BATCH_TIMEOUT;
+    }
+
+    private static DataAccessException translate(RuntimeException e) {
+        DataAccessException translated = EXCEPTION_CONVERTER.convert(e);
+        return translated != null ? translated : new RedisSystemException(e.getMessage(), e);
+    }
+}
@@ -0,0 +1,107 @@
+package com.r2s.core.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * Provides the {@link CounterRedisTemplate} that rate limiting and other per-request Redis lookups go through.
+ * <p>
+ * The dedicated connection reuses the application's Redis endpoint, credentials, TLS settings and Lettuce
+ * {@code ClientResources}, so its commands show up in the {@code lettuce.command.*} latency timers next to the
+ * rest. It is a single multiplexed connection rather than a pool: the hot path only sends non-blocking
+ * single-key commands and scripts, which Lettuce pipelines across threads on one socket, and batches go through
+ * {@link CounterRedisTemplate#evalShaAll}. While the connection is down commands are rejected immediately instead
+ * of being buffered until they time out.
+ */
+@AutoConfiguration(after = RedisAutoConfiguration.class)
+@ConditionalOnClass(LettuceConnectionFactory.class)
+@ConditionalOnBean(RedisConnectionFactory.class)
+@EnableConfigurationProperties(HotPathRedisProperties.class)
+public class HotPathRedisAutoConfiguration {
+
+    @Bean
+    public CounterRedisTemplate counterRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            HotPathRedisProperties properties
+    ) {
+        if (!properties.isDedicatedConnection()
+                || !(connectionFactory instanceof LettuceConnectionFactory applicationFactory)) {
+            return new CounterRedisTemplate(connectionFactory);
+        }
+        LettuceConnectionFactory dedicated = dedicatedConnectionFactory(applicationFactory, properties);
+        return new CounterRedisTemplate(dedicated, dedicated);
+    }
+
+    private static LettuceConnectionFactory dedicatedConnectionFactory(
+            LettuceConnectionFactory applicationFactory,
+            HotPathRedisProperties properties
+    ) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                redisConfiguration(applicationFactory),
+                clientConfiguration(applicationFactory, properties)
+        );
+        factory.setShareNativeConnection(true);
+        factory.setValidateConnection(false);
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static RedisConfiguration redisConfiguration(LettuceConnectionFactory factory) {
+        if (factory.getClusterConfiguration() != null) {
+            return factory.getClusterConfiguration();
+        }
+        if (factory.getSentinelConfiguration() != null) {
+            return factory.getSentinelConfiguration();
+        }
+        if (factory.getSocketConfiguration() != null) {
+            return factory.getSocketConfiguration();
+        }
+        return factory.getStandaloneConfiguration();
+    }
+
+    private static LettuceClientConfiguration clientConfiguration(
+            LettuceConnectionFactory factory,
+            HotPathRedisProperties properties
+    ) {
+        LettuceClientConfiguration application = factory.getClientConfiguration();
+        ClientOptions baseOptions = application.getClientOptions().orElseGet(() ->
+                factory.getClusterConfiguration() != null
+                        ? ClusterClientOptions.create()
+                        : ClientOptions.create()
+        );
+        ClientOptions options = baseOptions.mutate()
+                .timeoutOptions(TimeoutOptions.enabled(properties.getCommandTimeout()))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder();
+        if (application.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder ssl =
+                    builder.useSsl().verifyPeer(application.getVerifyMode());
+            if (application.isStartTls()) {
+                ssl.startTls();
+            }
+        }
+        application.getClientResources().ifPresent(builder::clientResources);
+        application.getReadFrom().ifPresent(builder::readFrom);
+        application.getRedisCredentialsProviderFactory().ifPresent(builder::redisCredentialsProviderFactory);
+        application.getClientName().ifPresent(name -> builder.clientName(name + "-hot-path"));
+        return builder
+                .clientOptions(options)
+                .commandTimeout(properties.getCommandTimeout())
+                .shutdownTimeout(application.getShutdownTimeout())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.r2s.core.redis;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * {@code dedicatedConnection} opens a separate multiplexed connection for hot-path commands, so they never
+ * queue behind the application's general Redis traffic and fail on their own {@code commandTimeout}. When false
+ * the application connection is reused as-is.
+ */
+@Data
+@ConfigurationProperties(prefix = "redis.hot-path")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HotPathRedisProperties {
+    boolean dedicatedConnection = true;
+    Duration commandTimeout = Duration.ofMillis(250);
+}
@@ -0,0 +1,91 @@
+package com.r2s.core.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Longs as the ASCII decimal Redis uses for {@code INCR} counters, encoded and parsed without an intermediate
+ * String or JSON type header.
+ */
+public final class LongRedisSerializer implements RedisSerializer<Long> {
+
+    public static final LongRedisSerializer INSTANCE = new LongRedisSerializer();
+
+    private static final int MAX_DIGITS = 20;
+
+    private LongRedisSerializer() {
+    }
+
+    @Override
+    public byte[] serialize(Long value) {
+        return value == null ? null : encode(value);
+    }
+
+    @Override
+    public Long deserialize(byte[] bytes) {
+        return bytes == null ? null : decode(bytes);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return Long.class;
+    }
+
+    public static byte[] encode(long value) {
+        if (value == Long.MIN_VALUE) {
+            return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        byte[] buffer = new byte[MAX_DIGITS];
+        int position = MAX_DIGITS;
+        long remaining = Math.abs(value);
+        do {
+            buffer[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--position] = '-';
+        }
+        byte[] encoded = new byte[MAX_DIGITS - position];
+        System.arraycopy(buffer, position, encoded, 0, encoded.length);
+        return encoded;
+    }
+
+    /**
+     * Accumulates the negated value so {@link Long#MIN_VALUE} parses without overflowing.
+     */
+    public static long decode(byte[] bytes) {
+        int length = bytes.length;
+        boolean negative = length > 0 && bytes[0] == '-';
+        int start = negative ? 1 : 0;
+        if (length == start || length - start > 19) {
+            throw invalid(bytes);
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || value < Long.MIN_VALUE / 10) {
+                throw invalid(bytes);
+            }
+            value *= 10;
+            if (value < Long.MIN_VALUE + digit) {
+                throw invalid(bytes);
+            }
+            value -= digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw invalid(bytes);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private static SerializationException invalid(byte[] bytes) {
+        return new SerializationException(
+                "Not a Redis integer: " + new String(bytes, StandardCharsets.US_ASCII)
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.r2s.core.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies the HMAC over the raw {@code header.payload} bytes before touching JSON,
+ * then streams only the claims the services read out of the payload.
+ */
+@Component
+@RequiredArgsConstructor
+public class HmacJwtDecoder implements JwtDecoder {
+
+    public static final String USERNAME_CLAIM = "username";
+    public static final String ROLES_CLAIM = "roles";
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeyring jwtKeyring;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] raw = token.getBytes(StandardCharsets.US_ASCII);
+        int headerEnd = indexOf(raw, 0);
+        int payloadEnd = headerEnd < 0 ? -1 : indexOf(raw, headerEnd + 1);
+        if (payloadEnd < 0 || indexOf(raw, payloadEnd + 1) >= 0) {
+            throw new JwtException("Malformed JWT");
+        }
+
+        Header header = readHeader(raw, headerEnd);
+        JwtKeyring.Key key = jwtKeyring.find(header.kid());
+        if (key == null || !key.algorithm().equals(header.alg())) {
+            throw new JwtException("Invalid JWT signature");
+        }
+
+        byte[] expected = BASE64_URL_ENCODER.encode(key.sign(raw, 0, payloadEnd));
+        if (!constantTimeEquals(expected, raw, payloadEnd + 1)) {
+            throw new JwtException("Invalid JWT signature");
+        }
+
+        Map<String, Object> claims = readClaims(raw, headerEnd + 1, payloadEnd);
+        Instant exp = (Instant) claims.get(JwtClaimNames.EXP);
+        if (exp == null || exp.isBefore(Instant.now())) {
+            throw new JwtException("JWT expired");
+        }
+        Instant iat = (Instant) claims.get(JwtClaimNames.IAT);
+        if (iat != null && !exp.isAfter(iat)) {
+            throw new JwtException("Malformed JWT: exp must be after iat");
+        }
+
+        Jwt jwt = new Jwt(
+                token,
+                iat,
+                exp,
+                header.toMap(),
+                claims
+        );
+        verifiedTokenCache.put(token, jwt);
+
+        return jwt;
+    }
+
+    private static Header readHeader(byte[] raw, int end) {
+        String alg = null;
+        String kid = null;
+        try (JsonParser parser = createParser(raw, 0, end)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "alg" -> alg = readString(parser, value);
+                    case "kid" -> kid = readString(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            expect(parser.currentToken(), JsonToken.END_OBJECT);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new JwtException("Malformed JWT header", e);
+        }
+        return new Header(alg, kid);
+    }
+
+    private static Map<String, Object> readClaims(byte[] raw, int start, int end) {
+        Map<String, Object> claims = new HashMap<>(8);
+        try (JsonParser parser = createParser(raw, start, end)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case JwtClaimNames.SUB, USERNAME_CLAIM -> claims.put(field, readString(parser, value));
+                    case JwtClaimNames.EXP, JwtClaimNames.IAT -> {
+                        expect(value, JsonToken.VALUE_NUMBER_INT);
+                        claims.put(field, Instant.ofEpochSecond(parser.getLongValue()));
+                    }
+                    case ROLES_CLAIM -> claims.put(field, readStrings(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+            expect(parser.currentToken(), JsonToken.END_OBJECT);
+        } catch (IOException | IllegalArgumentException | DateTimeException e) {
+            throw new JwtException("Malformed JWT payload", e);
+        }
+        return claims;
+    }
+
+    private static List<String> readStrings(JsonParser parser, JsonToken value) throws IOException {
+        expect(value, JsonToken.START_ARRAY);
+        List<String> values = new ArrayList<>(4);
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            values.add(readString(parser, element));
+        }
+        return values;
+    }
+
+    private static String readString(JsonParser parser, JsonToken value) throws IOException {
+        expect(value, JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    private static JsonParser createParser(byte[] raw, int start, int end) throws IOException {
+        ByteBuffer decoded = BASE64_URL_DECODER.decode(ByteBuffer.wrap(raw, start, end - start));
+        return JSON.createParser(decoded.array(), decoded.arrayOffset(), decoded.remaining());
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new JwtException("Malformed JWT: expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static int indexOf(byte[] raw, int from) {
+        for (int i = from; i < raw.length; i++) {
+            if (raw[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] raw, int offset) {
+        if (raw.length - offset != expected.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            diff |= expected[i] ^ raw[offset + i];
+        }
+        return diff == 0;
+    }
+
+    private record Header(String alg, String kid) {
+        Map<String, Object> toMap() {
+            return kid == null ? Map.of("alg", alg) : Map.of("alg", alg, "kid", kid);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.r2s.core.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one signer/verifier pair per HMAC key, built once and looked up by {@code kid}.
+ * MACSigner and MACVerifier are stateless after construction, so entries are shared across threads.
+ */
+@Component
+@Slf4j
+public class JwtKeyring {
+
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+    private volatile Key activeKey;
+
+    public JwtKeyring(
+            @Value("${jwt.signerKey}") String signerKey,
+            @Value("${jwt.keyId:default}") String keyId
+    ) {
+        addKey(keyId, signerKey);
+        activate(keyId);
+    }
+
+    public void addKey(String keyId, String secret) {
+        if (keyId == null || keyId.isBlank() || secret == null) {
+            throw new IllegalArgumentException("JWT key id and secret must not be empty");
+        }
+        keys.put(keyId, Key.of(keyId, secret.getBytes(StandardCharsets.UTF_8)));
+        log.info("JWT key registered: kid={}", keyId);
+    }
+
+    public void activate(String keyId) {
+        Key key = keys.get(keyId);
+        if (key == null) {
+            throw new IllegalArgumentException("Unknown JWT key id: " + keyId);
+        }
+        activeKey = key;
+        log.info("JWT signing key activated: kid={}", keyId);
+    }
+
+    public void retire(String keyId) {
+        if (activeKey.id().equals(keyId)) {
+            throw new IllegalStateException("Cannot retire the active JWT key: " + keyId);
+        }
+        if (keys.remove(keyId) != null) {
+            log.info("JWT key retired: kid={}", keyId);
+        }
+    }
+
+    public Key activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * Tokens issued before kid headers were introduced carry no kid and are checked against the active key.
+     */
+    public Key find(String keyId) {
+        if (keyId == null) {
+            return activeKey;
+        }
+        return keys.get(keyId);
+    }
+
+    public Set<String> keyIds() {
+        return Set.copyOf(keys.keySet());
+    }
+
+    public static final class Key {
+        private static final String MAC_ALGORITHM = "HmacSHA512";
+        private static final int MAC_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+        private final String id;
+        private final MACSigner signer;
+        private final MACVerifier verifier;
+        private final SecretKeySpec secretKey;
+        // owned by the key, so a retired key's Macs are collected with it rather than pinned to worker threads
+        private final BlockingQueue<Mac> macs = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+
+        private Key(String id, byte[] secret) throws JOSEException {
+            this.id = id;
+            this.signer = new MACSigner(secret);
+            this.verifier = new MACVerifier(secret);
+            this.secretKey = new SecretKeySpec(secret, MAC_ALGORITHM);
+        }
+
+        static Key of(String id, byte[] secret) {
+            try {
+                return new Key(id, secret);
+            } catch (JOSEException e) {
+                throw new IllegalArgumentException("Invalid JWT key: " + id, e);
+            }
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String algorithm() {
+            return "HS512";
+        }
+
+        public MACSigner signer() {
+            return signer;
+        }
+
+        public MACVerifier verifier() {
+            return verifier;
+        }
+
+        /**
+         * HMAC-SHA512 over {@code input[offset, offset + length)} using a pooled Mac; a new one is initialised
+         * only when every pooled instance is in use.
+         */
+        public byte[] sign(byte[] input, int offset, int length) {
+            Mac instance = macs.poll();
+            if (instance == null) {
+                instance = newMac();
+            }
+            instance.update(input, offset, length);
+            byte[] signature = instance.doFinal();
+            macs.offer(instance);
+            return signature;
+        }
+
+        private Mac newMac() {
+            try {
+                Mac instance = Mac.getInstance(MAC_ALGORITHM);
+                instance.init(secretKey);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.r2s.core.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface TokenRevocationChecker {
+    TokenRevocationChecker NONE = jwt -> false;
+
+    boolean isRevoked(Jwt jwt);
+}
@@ -0,0 +1,117 @@
+package com.r2s.core.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Size-bounded cache of already verified tokens, keyed by the SHA-256 of the raw token.
+ * Entries live until the token's {@code exp}; the revocation hook is consulted on every hit.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, Jwt> cache;
+    private final TokenRevocationChecker revocationChecker;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            ObjectProvider<TokenRevocationChecker> revocationChecker,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.revocationChecker = revocationChecker.getIfAvailable(() -> TokenRevocationChecker.NONE);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        log.info("Verified JWT cache enabled={}, maxSize={}", enabled, maxSize);
+    }
+
+    public Jwt get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        ByteBuffer key = digest(token);
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt != null && revocationChecker.isRevoked(jwt)) {
+            cache.invalidate(key);
+            throw new JwtException("JWT revoked");
+        }
+        return jwt;
+    }
+
+    /**
+     * Rejects revoked tokens even when caching is disabled, so both decode paths see the same hook.
+     */
+    public void put(String token, Jwt jwt) {
+        if (revocationChecker.isRevoked(jwt)) {
+            throw new JwtException("JWT revoked");
+        }
+        if (enabled) {
+            cache.put(digest(token), jwt);
+        }
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- KEYS[1] request counter, KEYS[2] block flag
+-- ARGV[1] max requests per window, ARGV[2] window and block duration in milliseconds
+-- Returns 1 when the request is allowed, 0 when it is rejected.
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+local count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+if count > tonumber(ARGV[1]) then
+    redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+    return 0
+end
+
+return 1
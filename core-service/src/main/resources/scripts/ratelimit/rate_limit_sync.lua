@@ -0,0 +1,18 @@
+-- KEYS[1] request counter, KEYS[2] block flag
+-- ARGV[1] requests admitted locally since the last sync, ARGV[2] max requests per window,
+-- ARGV[3] window and block duration in milliseconds
+-- Returns {global count, counter ttl ms, block ttl ms (negative when not blocked)}.
+local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl < 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+    ttl = tonumber(ARGV[3])
+end
+
+local blocked = redis.call('PTTL', KEYS[2])
+if count > tonumber(ARGV[2]) and blocked < 0 then
+    redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+    blocked = tonumber(ARGV[3])
+end
+
+return {count, ttl, blocked}
@@ -0,0 +1,21 @@
+-- KEYS[1] hash of per-window counters, field = window number
+-- ARGV[1] max requests per window, ARGV[2] window in milliseconds
+-- The previous window's count is weighted by how much of it still overlaps the sliding window.
+-- Returns 1 when the request is allowed, 0 when it is rejected; rejected requests are not counted.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[2])
+local current = math.floor(now / window)
+local overlap = 1 - (now % window) / window
+
+local counts = redis.call('HMGET', KEYS[1], current, current - 1)
+local count = tonumber(counts[1]) or 0
+local previous = tonumber(counts[2]) or 0
+if previous * overlap + count >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('HINCRBY', KEYS[1], current, 1)
+redis.call('HDEL', KEYS[1], current - 2)
+redis.call('PEXPIRE', KEYS[1], window * 2)
+return 1
@@ -0,0 +1,19 @@
+-- GCRA: KEYS[1] holds the theoretical arrival time (TAT) in microseconds, a single integer per client.
+-- ARGV[1] bucket size (max burst), ARGV[2] milliseconds to refill the whole bucket
+-- Returns 1 when the request is allowed, 0 when it is rejected.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+local interval = tonumber(ARGV[2]) * 1000 / tonumber(ARGV[1])
+local tolerance = interval * (tonumber(ARGV[1]) - 1)
+
+local tat = tonumber(redis.call('GET', KEYS[1])) or now
+if tat < now then
+    tat = now
+end
+if tat - now > tolerance then
+    return 0
+end
+
+tat = tat + interval
+redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000))
+return 1
@@ -0,0 +1,101 @@
+package com.r2s.core.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.r2s.core.dto.ApiResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.exception.ErrorResponses;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects per second on the 429 path: serializing with a new ObjectMapper (as the filter and entry points
+ * did) against writing the pre-rendered body, and throwing an exception with and without a stack trace
+ * from {@code depth} frames down, roughly where a service method sits under the filter chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    @Param({"100"})
+    private int depth;
+
+    @Benchmark
+    public MockHttpServletResponse rejectWithNewObjectMapper() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(429);
+        response.setContentType("application/json");
+        ApiResponse<?> apiResponse = ApiResponse.builder()
+                .code(ErrorCode.TOO_MANY_REQUEST.getCode())
+                .message(ErrorCode.TOO_MANY_REQUEST.getMessage())
+                .build();
+        response.getWriter().write(new ObjectMapper().writeValueAsString(apiResponse));
+        response.flushBuffer();
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejectPreRendered() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorResponses.write(response, ErrorCode.TOO_MANY_REQUEST);
+        return response;
+    }
+
+    @Benchmark
+    public ErrorCode throwWithStackTrace() {
+        try {
+            throwAt(depth, true);
+        } catch (StackfulException e) {
+            return e.errorCode;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ErrorCode throwAppException() {
+        try {
+            throwAt(depth, false);
+        } catch (AppException e) {
+            return e.getErrorCode();
+        }
+        return null;
+    }
+
+    private static void throwAt(int depth, boolean stackful) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackful);
+            return;
+        }
+        if (stackful) {
+            throw new StackfulException(ErrorCode.TOO_MANY_REQUEST);
+        }
+        throw new AppException(ErrorCode.TOO_MANY_REQUEST);
+    }
+
+    private static final class StackfulException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        StackfulException(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ErrorResponseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.r2s.core.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.r2s.core.security.HmacJwtDecoder;
+import com.r2s.core.security.JwtKeyring;
+import com.r2s.core.security.TokenRevocationChecker;
+import com.r2s.core.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nimbus parse + verify path (as the per-service decoders did it) against the shared fast-path decoder.
+ * The verified-token cache is disabled so both sides do the full work on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HmacJwtDecoderBenchmark {
+
+    private static final String SIGNER_KEY =
+            "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==";
+
+    private JwtKeyring keyring;
+    private HmacJwtDecoder decoder;
+    private String token;
+
+    @Setup
+    public void setup() throws JOSEException {
+        keyring = new JwtKeyring(SIGNER_KEY, "bench");
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        VerifiedTokenCache cache = new VerifiedTokenCache(
+                false,
+                0,
+                beans.getBeanProvider(TokenRevocationChecker.class),
+                beans.getBeanProvider(MeterRegistry.class)
+        );
+        decoder = new HmacJwtDecoder(keyring, cache);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer("r2s")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("username", "bench_user")
+                .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .build();
+        JWSObject object = new JWSObject(
+                new JWSHeader.Builder(JWSAlgorithm.HS512).keyID("bench").build(),
+                new Payload(claims.toJSONObject())
+        );
+        object.sign(keyring.activeKey().signer());
+        token = object.serialize();
+
+        Jwt fast = decoder.decode(token);
+        Jwt nimbus = nimbusDecode();
+        if (!fast.getSubject().equals(nimbus.getSubject())
+                || !fast.getClaimAsStringList("roles").equals(nimbus.getClaimAsStringList("roles"))) {
+            throw new IllegalStateException("Decoders disagree on " + token);
+        }
+    }
+
+    @Benchmark
+    public Jwt nimbusDecode() {
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!signedJWT.verify(keyring.find(signedJWT.getHeader().getKeyID()).verifier())) {
+                throw new IllegalStateException("Invalid JWT signature");
+            }
+            Instant exp = signedJWT.getJWTClaimsSet().getExpirationTime().toInstant();
+            return new Jwt(
+                    token,
+                    signedJWT.getJWTClaimsSet().getIssueTime().toInstant(),
+                    exp,
+                    signedJWT.getHeader().toJSONObject(),
+                    signedJWT.getJWTClaimsSet().getClaims()
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public Jwt fastPathDecode() {
+        return decoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HmacJwtDecoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.r2s.core.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.r2s.core.security.JwtKeyring;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a MACSigner/MACVerifier per call against reusing the keyring instances.
+ * Run with {@code main} (GC profiler on) and compare {@code gc.alloc.rate.norm} between the pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtKeyringBenchmark {
+
+    private static final String SIGNER_KEY =
+            "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==";
+
+    private JwtKeyring keyring;
+    private JWSHeader header;
+    private Payload payload;
+    private String token;
+
+    @Setup
+    public void setup() throws JOSEException {
+        keyring = new JwtKeyring(SIGNER_KEY, "bench");
+        header = new JWSHeader.Builder(JWSAlgorithm.HS512).keyID("bench").build();
+        payload = new Payload(Map.of("sub", "bench-user", "username", "bench"));
+
+        JWSObject object = new JWSObject(header, payload);
+        object.sign(keyring.activeKey().signer());
+        token = object.serialize();
+    }
+
+    @Benchmark
+    public String signWithNewSigner() throws JOSEException {
+        JWSObject object = new JWSObject(header, payload);
+        object.sign(new MACSigner(SIGNER_KEY.getBytes(StandardCharsets.UTF_8)));
+        return object.serialize();
+    }
+
+    @Benchmark
+    public String signWithKeyring() throws JOSEException {
+        JWSObject object = new JWSObject(header, payload);
+        object.sign(keyring.activeKey().signer());
+        return object.serialize();
+    }
+
+    @Benchmark
+    public boolean verifyWithNewVerifier() throws Exception {
+        JWSObject object = JWSObject.parse(token);
+        return object.verify(new MACVerifier(SIGNER_KEY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public boolean verifyWithKeyring() throws Exception {
+        JWSObject object = JWSObject.parse(token);
+        return object.verify(keyring.find(object.getHeader().getKeyID()).verifier());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtKeyringBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
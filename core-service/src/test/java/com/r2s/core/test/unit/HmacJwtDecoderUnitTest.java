@@ -0,0 +1,205 @@
+package com.r2s.core.test.unit;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.r2s.core.security.HmacJwtDecoder;
+import com.r2s.core.security.JwtKeyring;
+import com.r2s.core.security.TokenRevocationChecker;
+import com.r2s.core.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HmacJwtDecoderUnitTest {
+
+    private static final String ACTIVE_SECRET = "active-signer-secret-".repeat(4);
+    private static final String OLD_SECRET = "previous-signer-secret-".repeat(4);
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    JwtKeyring keyring;
+    HmacJwtDecoder decoder;
+    long exp = Instant.now().plusSeconds(3600).getEpochSecond();
+
+    @BeforeEach
+    void setUp() {
+        keyring = new JwtKeyring(OLD_SECRET, "k1");
+        keyring.addKey("k2", ACTIVE_SECRET);
+        keyring.activate("k2");
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        VerifiedTokenCache cache = new VerifiedTokenCache(
+                false,
+                0,
+                beans.getBeanProvider(TokenRevocationChecker.class),
+                beans.getBeanProvider(MeterRegistry.class)
+        );
+        decoder = new HmacJwtDecoder(keyring, cache);
+    }
+
+    @Test
+    void decode_nimbusSignedToken_readsClaims() throws Exception {
+        JWSObject object = new JWSObject(
+                new JWSHeader.Builder(JWSAlgorithm.HS512).keyID("k2").build(),
+                new Payload(new JWTClaimsSet.Builder()
+                        .subject("user-1")
+                        .issuer("r2s")
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.ofEpochSecond(exp)))
+                        .claim("username", "alice")
+                        .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                        .build()
+                        .toJSONObject())
+        );
+        object.sign(keyring.activeKey().signer());
+
+        Jwt jwt = decoder.decode(object.serialize());
+
+        assertEquals("user-1", jwt.getSubject());
+        assertEquals("alice", jwt.getClaimAsString("username"));
+        assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), jwt.getClaimAsStringList("roles"));
+        assertEquals(Instant.ofEpochSecond(exp), jwt.getExpiresAt());
+        assertEquals("k2", jwt.getHeaders().get("kid"));
+    }
+
+    @Test
+    void decode_tamperedSignature_isRejected() {
+        String token = sign(header("HS512", "k2"), payload(), ACTIVE_SECRET, "HmacSHA512");
+        int at = token.lastIndexOf('.') + 10;
+        char replaced = token.charAt(at) == 'A' ? 'B' : 'A';
+
+        assertRejected(token.substring(0, at) + replaced + token.substring(at + 1));
+        assertRejected(token.substring(0, token.lastIndexOf('.') + 1));
+    }
+
+    @Test
+    void decode_tamperedPayload_isRejected() {
+        String token = sign(header("HS512", "k2"), payload(), ACTIVE_SECRET, "HmacSHA512");
+        String[] parts = token.split("\\.");
+        String forged = encode("{\"sub\":\"admin\",\"exp\":" + exp + ",\"roles\":[\"ROLE_ADMIN\"]}");
+
+        assertRejected(parts[0] + "." + forged + "." + parts[2]);
+    }
+
+    @Test
+    void decode_algorithmOtherThanKeyAlgorithm_isRejected() {
+        assertRejected(encode(header("none", "k2")) + "." + encode(payload()) + ".");
+        assertRejected(sign(header("none", "k2"), payload(), ACTIVE_SECRET, "HmacSHA512"));
+        assertRejected(sign(header("HS256", "k2"), payload(), ACTIVE_SECRET, "HmacSHA256"));
+        assertRejected(sign("{\"kid\":\"k2\"}", payload(), ACTIVE_SECRET, "HmacSHA512"));
+    }
+
+    @Test
+    void decode_unknownKid_isRejected() {
+        assertRejected(sign(header("HS512", "k3"), payload(), ACTIVE_SECRET, "HmacSHA512"));
+        assertRejected(sign(header("HS512", "k1"), payload(), ACTIVE_SECRET, "HmacSHA512"));
+    }
+
+    @Test
+    void decode_missingKid_isCheckedAgainstActiveKeyOnly() {
+        String legacy = sign("{\"alg\":\"HS512\"}", payload(), ACTIVE_SECRET, "HmacSHA512");
+        assertEquals("user-1", decoder.decode(legacy).getSubject());
+
+        assertRejected(sign("{\"alg\":\"HS512\"}", payload(), OLD_SECRET, "HmacSHA512"));
+        assertEquals("user-1", decoder.decode(sign(header("HS512", "k1"), payload(), OLD_SECRET, "HmacSHA512")).getSubject());
+    }
+
+    @Test
+    void decode_missingOrExpiredExp_isRejected() {
+        long past = Instant.now().minusSeconds(1).getEpochSecond();
+
+        assertRejected(signed("{\"sub\":\"user-1\"}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + past + "}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":\"" + exp + "\"}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ".5}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + Long.MAX_VALUE + "}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":99999999999999999999}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"iat\":" + exp + ",\"exp\":" + exp + "}"));
+    }
+
+    @Test
+    void decode_wrongSegmentCount_isRejected() {
+        String token = sign(header("HS512", "k2"), payload(), ACTIVE_SECRET, "HmacSHA512");
+
+        assertRejected("");
+        assertRejected("..");
+        assertRejected(token.substring(0, token.lastIndexOf('.')));
+        assertRejected(token.substring(0, token.indexOf('.')));
+        assertRejected(token + ".extra");
+        assertRejected(token + ".");
+    }
+
+    @Test
+    void decode_segmentsThatAreNotBase64UrlOrJson_areRejected() {
+        String token = sign(header("HS512", "k2"), payload(), ACTIVE_SECRET, "HmacSHA512");
+        String rest = token.substring(token.indexOf('.'));
+
+        assertRejected("a+b/c" + rest);
+        assertRejected("abcde" + rest);
+        assertRejected("\u00e9" + rest);
+        assertRejected(encode("not json") + rest);
+        assertRejected(encode("[\"HS512\"]") + rest);
+        assertRejected(encode("{\"alg\":\"HS512\"") + rest);
+        assertRejected(encode("{\"alg\":{\"kid\":\"k2\"}}") + rest);
+        assertRejected(signed("not json"));
+        assertRejected(signed("[]"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp));
+        assertRejected(signed("{\"sub\":{\"id\":1},\"exp\":" + exp + "}"));
+    }
+
+    @Test
+    void decode_rolesThatAreNotStringArray_areRejected() {
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":\"ROLE_ADMIN\"}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":null}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":{\"0\":\"ROLE_ADMIN\"}}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":[\"ROLE_USER\",1]}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":[[\"ROLE_ADMIN\"]]}"));
+        assertRejected(signed("{\"sub\":\"user-1\",\"exp\":" + exp + ",\"roles\":[\"ROLE_USER\""));
+    }
+
+    private void assertRejected(String token) {
+        assertThrows(JwtException.class, () -> decoder.decode(token), token);
+    }
+
+    private String payload() {
+        return "{\"sub\":\"user-1\",\"username\":\"alice\",\"exp\":" + exp + ",\"roles\":[\"ROLE_USER\"]}";
+    }
+
+    private String signed(String payload) {
+        return sign(header("HS512", "k2"), payload, ACTIVE_SECRET, "HmacSHA512");
+    }
+
+    private static String header(String alg, String kid) {
+        return "{\"alg\":\"" + alg + "\",\"kid\":\"" + kid + "\"}";
+    }
+
+    private static String sign(String header, String payload, String secret, String algorithm) {
+        String signingInput = encode(header) + "." + encode(payload);
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm));
+            byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64_URL.encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
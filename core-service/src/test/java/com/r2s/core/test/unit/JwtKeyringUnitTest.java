@@ -0,0 +1,141 @@
+package com.r2s.core.test.unit;
+
+import com.r2s.core.security.JwtKeyring;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeyringUnitTest {
+
+    JwtKeyring keyring;
+
+    @BeforeEach
+    void setUp() {
+        keyring = new JwtKeyring("first-secret-".repeat(6), "k1");
+    }
+
+    @Test
+    void constructor_registersAndActivatesConfiguredKey() {
+        assertEquals("k1", keyring.activeKey().id());
+        assertEquals("HS512", keyring.activeKey().algorithm());
+        assertEquals(Set.of("k1"), keyring.keyIds());
+    }
+
+    @Test
+    void activate_switchesSigningKey_andKeepsOldKeyVerifiable() {
+        keyring.addKey("k2", "second-secret-".repeat(6));
+        assertEquals("k1", keyring.activeKey().id());
+
+        keyring.activate("k2");
+
+        assertEquals("k2", keyring.activeKey().id());
+        assertSame(keyring.activeKey(), keyring.find("k2"));
+        assertEquals("k1", keyring.find("k1").id());
+        assertEquals(Set.of("k1", "k2"), keyring.keyIds());
+    }
+
+    @Test
+    void find_withoutKid_returnsActiveKey() {
+        assertSame(keyring.find("k1"), keyring.find(null));
+
+        keyring.addKey("k2", "second-secret-".repeat(6));
+        keyring.activate("k2");
+
+        assertSame(keyring.find("k2"), keyring.find(null));
+    }
+
+    @Test
+    void find_unknownKid_returnsNull() {
+        assertNull(keyring.find("missing"));
+        assertNull(keyring.find(""));
+    }
+
+    @Test
+    void retire_removesInactiveKey() {
+        keyring.addKey("k2", "second-secret-".repeat(6));
+        keyring.activate("k2");
+
+        keyring.retire("k1");
+        keyring.retire("never-added");
+
+        assertNull(keyring.find("k1"));
+        assertEquals(Set.of("k2"), keyring.keyIds());
+        assertEquals("k2", keyring.activeKey().id());
+    }
+
+    @Test
+    void retire_activeKey_isRejected() {
+        keyring.addKey("k2", "second-secret-".repeat(6));
+
+        assertThrows(IllegalStateException.class, () -> keyring.retire("k1"));
+
+        assertEquals("k1", keyring.activeKey().id());
+        assertNotNull(keyring.find("k1"));
+    }
+
+    @Test
+    void activate_unknownKid_keepsCurrentKey() {
+        assertThrows(IllegalArgumentException.class, () -> keyring.activate("missing"));
+
+        assertEquals("k1", keyring.activeKey().id());
+    }
+
+    @Test
+    void addKey_rejectsMissingIdOrShortSecret() {
+        assertThrows(IllegalArgumentException.class, () -> keyring.addKey(null, "second-secret-".repeat(6)));
+        assertThrows(IllegalArgumentException.class, () -> keyring.addKey(" ", "second-secret-".repeat(6)));
+        assertThrows(IllegalArgumentException.class, () -> keyring.addKey("k2", null));
+        assertThrows(IllegalArgumentException.class, () -> keyring.addKey("k2", "too-short"));
+        assertEquals(Set.of("k1"), keyring.keyIds());
+    }
+
+    @Test
+    void sign_matchesHmacSha512OverRange() throws Exception {
+        byte[] input = "xxheader.payloadyy".getBytes(StandardCharsets.US_ASCII);
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec("first-secret-".repeat(6).getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+
+        byte[] signature = keyring.activeKey().sign(input, 2, input.length - 4);
+
+        assertArrayEquals(mac.doFinal("header.payload".getBytes(StandardCharsets.US_ASCII)), signature);
+    }
+
+    @Test
+    void sign_concurrentCallers_eachGetCorrectSignature() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec("first-secret-".repeat(6).getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+        List<byte[]> inputs = new ArrayList<>();
+        List<byte[]> expected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            byte[] input = ("header.payload-" + i).getBytes(StandardCharsets.US_ASCII);
+            inputs.add(input);
+            expected.add(mac.doFinal(input));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> signatures = new ArrayList<>();
+            for (int round = 0; round < 20; round++) {
+                for (byte[] input : inputs) {
+                    signatures.add(executor.submit(() -> keyring.activeKey().sign(input, 0, input.length)));
+                }
+            }
+
+            for (int i = 0; i < signatures.size(); i++) {
+                assertArrayEquals(expected.get(i % inputs.size()), signatures.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
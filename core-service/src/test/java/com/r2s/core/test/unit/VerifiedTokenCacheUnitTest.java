@@ -0,0 +1,120 @@
+package com.r2s.core.test.unit;
+
+import com.r2s.core.security.TokenRevocationChecker;
+import com.r2s.core.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedTokenCacheUnitTest {
+
+    @Test
+    void get_returnsEntryUntilTokenExpiry() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, TokenRevocationChecker.NONE);
+        Jwt jwt = jwt("short-lived", Instant.now().plusMillis(300));
+        cache.put("short-lived", jwt);
+
+        assertSame(jwt, cache.get("short-lived"));
+
+        Thread.sleep(500);
+
+        assertNull(cache.get("short-lived"));
+    }
+
+    @Test
+    void put_alreadyExpiredToken_isNotCached() {
+        VerifiedTokenCache cache = cache(true, TokenRevocationChecker.NONE);
+
+        cache.put("expired", jwt("expired", Instant.now().minusSeconds(1)));
+
+        assertNull(cache.get("expired"));
+    }
+
+    @Test
+    void get_revokedOnHit_throwsAndEvicts() {
+        AtomicBoolean revoked = new AtomicBoolean();
+        VerifiedTokenCache cache = cache(true, jwt -> revoked.get());
+        Jwt jwt = jwt("token", Instant.now().plusSeconds(60));
+        cache.put("token", jwt);
+        assertSame(jwt, cache.get("token"));
+
+        revoked.set(true);
+
+        assertThrows(JwtException.class, () -> cache.get("token"));
+        revoked.set(false);
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void put_revokedToken_throwsEvenWhenDisabled() {
+        VerifiedTokenCache cache = cache(false, jwt -> true);
+
+        assertThrows(JwtException.class, () -> cache.put("token", jwt("token", Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void enabledProperty_switchesCacheOnAndOff() {
+        ApplicationContextRunner runner = new ApplicationContextRunner().withBean(VerifiedTokenCache.class);
+        Jwt jwt = jwt("token", Instant.now().plusSeconds(60));
+
+        runner.withPropertyValues("jwt.cache.enabled=false").run(context -> {
+            VerifiedTokenCache cache = context.getBean(VerifiedTokenCache.class);
+            cache.put("token", jwt);
+            assertNull(cache.get("token"));
+        });
+        runner.withPropertyValues("jwt.cache.enabled=true").run(context -> {
+            VerifiedTokenCache cache = context.getBean(VerifiedTokenCache.class);
+            cache.put("token", jwt);
+            assertSame(jwt, cache.get("token"));
+        });
+    }
+
+    @Test
+    void get_distinctTokens_neverShareEntry() {
+        VerifiedTokenCache cache = cache(true, TokenRevocationChecker.NONE);
+        String first = "header.payload.signatureA";
+        String second = "header.payload.signatureB";
+        Jwt firstJwt = jwt(first, Instant.now().plusSeconds(60));
+        Jwt secondJwt = jwt(second, Instant.now().plusSeconds(60));
+
+        cache.put(first, firstJwt);
+        assertNull(cache.get(second));
+        cache.put(second, secondJwt);
+
+        assertSame(firstJwt, cache.get(first));
+        assertSame(secondJwt, cache.get(second));
+
+        cache.invalidate(first);
+
+        assertNull(cache.get(first));
+        assertSame(secondJwt, cache.get(second));
+    }
+
+    private static VerifiedTokenCache cache(boolean enabled, TokenRevocationChecker revocationChecker) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("revocationChecker", revocationChecker);
+        return new VerifiedTokenCache(
+                enabled,
+                100,
+                beans.getBeanProvider(TokenRevocationChecker.class),
+                beans.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS512")
+                .subject("user-1")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
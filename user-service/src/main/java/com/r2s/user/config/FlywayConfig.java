@@ -0,0 +1,21 @@
+package com.r2s.user.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Flyway 9 holds its PostgreSQL lock inside an open transaction, which a {@code CREATE INDEX CONCURRENTLY}
+     * migration waits on forever. Boot's {@code spring.flyway.postgresql.transactional-lock} only reaches
+     * Flyway 10, so the session-level lock is selected here.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywaySessionLock() {
+        return configuration -> configuration.configuration(Map.of("flyway.postgresql.transactional.lock", "false"));
+    }
+}
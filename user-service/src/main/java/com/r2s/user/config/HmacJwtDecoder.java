@@ -1,50 +0,0 @@
-package com.r2s.user.config;
-
-import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.MACVerifier;
-import com.nimbusds.jwt.SignedJWT;
-import com.r2s.core.exception.AppException;
-import com.r2s.core.exception.ErrorCode;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.stereotype.Component;
-
-import java.time.Instant;
-
-@Component
-public class HmacJwtDecoder implements JwtDecoder {
-    @Value("${jwt.signerKey}")
-    private String signerKey;
-
-    @Override
-    public Jwt decode(String token) throws JwtException {
-        try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSVerifier verifier = new MACVerifier(signerKey.getBytes());
-
-            if (!signedJWT.verify(verifier)) {
-                throw new AppException(ErrorCode.UNAUTHORIZED);
-            }
-
-            Instant exp = signedJWT.getJWTClaimsSet()
-                    .getExpirationTime().toInstant();
-
-            if (exp.isBefore(Instant.now())) {
-                throw new AppException(ErrorCode.UNAUTHORIZED);
-            }
-
-            return new Jwt(
-                    token,
-                    signedJWT.getJWTClaimsSet().getIssueTime().toInstant(),
-                    exp,
-                    signedJWT.getHeader().toJSONObject(),
-                    signedJWT.getJWTClaimsSet().getClaims()
-            );
-
-        } catch (Exception e) {
-            throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
-        }
-    }
-}
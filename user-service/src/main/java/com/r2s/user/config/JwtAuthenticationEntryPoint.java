@@ -1,11 +1,9 @@
 package com.r2s.user.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.r2s.core.dto.ApiResponse;
 import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.exception.ErrorResponses;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -21,20 +19,6 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
             HttpServletResponse response,
             AuthenticationException authException
     ) throws IOException {
-
-        ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
-
-        response.setStatus(errorCode.getStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-        ApiResponse<?> apiResponse = ApiResponse.builder()
-                .code(errorCode.getCode())
-                .message(errorCode.getMessage())
-                .build();
-
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
-        response.flushBuffer();
+        ErrorResponses.write(response, ErrorCode.UNAUTHORIZED);
     }
 }
@@ -0,0 +1,24 @@
+package com.r2s.user.config;
+
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileRedisKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer profileInvalidationListener(
+            RedisConnectionFactory factory,
+            UserProfileCache userProfileCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(userProfileCache, new ChannelTopic(UserProfileRedisKey.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
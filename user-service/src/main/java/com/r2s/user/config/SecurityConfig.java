@@ -1,7 +1,9 @@
 package com.r2s.user.config;
 
 import com.r2s.core.constants.SecurityConstants;
+import com.r2s.core.ratelimit.RateLimitBlockFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -13,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -22,6 +25,7 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
     private final JwtDecoder jwtDecoder;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final ObjectProvider<RateLimitBlockFilter> rateLimitBlockFilter;
 
     private static final String[] PUBLIC_ENDPOINTS = {
             "/actuator/**"
@@ -34,6 +38,10 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        // absent when rate-limit.enabled=false or the service has no hot-path Redis
+        rateLimitBlockFilter.ifAvailable(filter ->
+                http.addFilterBefore(filter, BearerTokenAuthenticationFilter.class)
+        );
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(request -> request
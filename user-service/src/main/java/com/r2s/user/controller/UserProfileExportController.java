@@ -0,0 +1,42 @@
+package com.r2s.user.controller;
+
+import com.r2s.user.domain.exporter.writer.NdjsonUserProfileRecordWriterImpl;
+import com.r2s.user.service.UserProfileExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/admin/export/profiles")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Slf4j
+public class UserProfileExportController {
+    UserProfileExportService userProfileExportService;
+
+    /**
+     * Writes to the servlet output stream on the request thread rather than returning a
+     * {@code StreamingResponseBody}, so a long export is not cut off by the async request timeout.
+     */
+    @GetMapping
+    void export(
+            @RequestParam(name = "format", defaultValue = NdjsonUserProfileRecordWriterImpl.FORMAT) String format,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            HttpServletResponse response
+    ) throws IOException {
+        log.info("User profile export request: format={}, createdFrom={}, createdTo={}", format, createdFrom, createdTo);
+        userProfileExportService.export(format, createdFrom, createdTo, response);
+    }
+}
@@ -3,8 +3,11 @@ package com.r2s.user.controller;
 import com.r2s.core.dto.ApiResponse;
 import com.r2s.core.dto.request.UserCreatedRequest;
 import com.r2s.core.dto.request.UserUpdatedRequest;
+import com.r2s.core.dto.response.CursorPageResponse;
 import com.r2s.core.dto.response.PageResponse;
+import com.r2s.core.dto.response.SliceResponse;
 import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.domain.pagination.ListTotal;
 import com.r2s.user.service.UserProfilesService;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
@@ -48,6 +51,44 @@ public class UserProfilesController {
                 .build();
     }
 
+    @GetMapping(value = "/list", params = "mode=cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    ApiResponse<CursorPageResponse<UserProfileResponse>> getListByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "4") int size
+    ) {
+        log.info("Get all user by cursor");
+        return ApiResponse.<CursorPageResponse<UserProfileResponse>>builder()
+                .result(userProfilesService.getListByCursor(cursor, size))
+                .build();
+    }
+
+    @GetMapping(value = "/list", params = "mode=slice")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    ApiResponse<SliceResponse<UserProfileResponse>> getSlice(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "4") int size,
+            @RequestParam(name = "total", defaultValue = ListTotal.NONE) String total
+    ) {
+        log.info("Get all user by slice, total={}", total);
+        return ApiResponse.<SliceResponse<UserProfileResponse>>builder()
+                .result(userProfilesService.getSlice(page, size, total))
+                .build();
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    ApiResponse<CursorPageResponse<UserProfileResponse>> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "4") int size
+    ) {
+        log.info("Search user profile: q={}", query);
+        return ApiResponse.<CursorPageResponse<UserProfileResponse>>builder()
+                .result(userProfilesService.search(query, cursor, size))
+                .build();
+    }
+
     @GetMapping("/me")
     ApiResponse<UserProfileResponse> getMe() {
         log.info("Get my profile request");
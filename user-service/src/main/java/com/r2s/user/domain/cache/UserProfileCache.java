@@ -0,0 +1,194 @@
+package com.r2s.user.domain.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.r2s.core.dto.response.UserProfileResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of {@code GET /me} responses: a bounded local Caffeine tier in front of an optional shared
+ * Redis tier in front of Postgres. Writes go through both tiers and publish the user id on
+ * {@value UserProfileRedisKey#INVALIDATION_CHANNEL} so other instances drop their local copy.
+ * <p>
+ * A lost invalidation message leaves another instance stale for at most {@code local-ttl}. A load racing with a
+ * write can put the old row back into the shared tier, where it lives for at most {@code shared.ttl}.
+ */
+@Component
+@Slf4j
+public class UserProfileCache implements MessageListener {
+
+    private static final String CACHE_NAME = "user.profile";
+    private static final String SHARED_METRIC = "user.profile.cache.shared";
+    private static final String LOAD_METRIC = "user.profile.cache.load";
+    private static final String INVALIDATION_METRIC = "user.profile.cache.invalidations";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final boolean sharedEnabled;
+    private final Duration sharedTtl;
+    private final Cache<UUID, UserProfileResponse> local;
+    private final StringRedisTemplate redis;
+    private final UserProfileRedisKey redisKey;
+    private final ObjectMapper objectMapper;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sharedErrors;
+    private final Counter remoteInvalidations;
+    private final Timer loadTimer;
+
+    public UserProfileCache(
+            @Value("${user.profile-cache.enabled:true}") boolean enabled,
+            @Value("${user.profile-cache.max-size:10000}") long maxSize,
+            @Value("${user.profile-cache.local-ttl:30s}") Duration localTtl,
+            @Value("${user.profile-cache.shared.enabled:true}") boolean sharedEnabled,
+            @Value("${user.profile-cache.shared.ttl:2m}") Duration sharedTtl,
+            StringRedisTemplate redis,
+            UserProfileRedisKey redisKey,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.sharedEnabled = sharedEnabled;
+        this.sharedTtl = sharedTtl;
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.objectMapper = objectMapper;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(registry, local, CACHE_NAME);
+        this.sharedHits = Counter.builder(SHARED_METRIC).tag("result", "hit").register(registry);
+        this.sharedMisses = Counter.builder(SHARED_METRIC).tag("result", "miss").register(registry);
+        this.sharedErrors = Counter.builder(SHARED_METRIC).tag("result", "error").register(registry);
+        this.remoteInvalidations = Counter.builder(INVALIDATION_METRIC).register(registry);
+        this.loadTimer = Timer.builder(LOAD_METRIC)
+                .description("Time to load a profile from the database on a miss in both tiers")
+                .register(registry);
+        log.info("User profile cache enabled={}, maxSize={}, localTtl={}, shared={}, sharedTtl={}",
+                enabled, maxSize, localTtl, sharedEnabled, sharedTtl);
+    }
+
+    /**
+     * Concurrent misses for the same user share one load. Exceptions thrown by {@code loader} propagate and
+     * nothing is cached.
+     */
+    public UserProfileResponse get(UUID userId, Function<UUID, UserProfileResponse> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return local.get(userId, id -> loadThroughShared(id, loader));
+    }
+
+    public void put(UUID userId, UserProfileResponse profile) {
+        if (!enabled) {
+            return;
+        }
+        local.put(userId, profile);
+        writeShared(userId, profile);
+        publish(userId);
+    }
+
+    public void evict(UUID userId) {
+        if (!enabled) {
+            return;
+        }
+        local.invalidate(userId);
+        if (sharedEnabled) {
+            try {
+                redis.delete(redisKey.profile(userId));
+            } catch (DataAccessException e) {
+                sharedErrors.increment();
+                log.warn("Shared profile cache evict failed: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+        publish(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.US_ASCII);
+        int separator = body.indexOf(':');
+        if (separator > 0 && body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        try {
+            local.invalidate(UUID.fromString(body.substring(separator + 1)));
+            remoteInvalidations.increment();
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed profile invalidation: {}", body);
+        }
+    }
+
+    private UserProfileResponse loadThroughShared(UUID userId, Function<UUID, UserProfileResponse> loader) {
+        UserProfileResponse shared = readShared(userId);
+        if (shared != null) {
+            return shared;
+        }
+        UserProfileResponse loaded = loadTimer.record(() -> loader.apply(userId));
+        writeShared(userId, loaded);
+        return loaded;
+    }
+
+    private UserProfileResponse readShared(UUID userId) {
+        if (!sharedEnabled) {
+            return null;
+        }
+        try {
+            String json = redis.opsForValue().get(redisKey.profile(userId));
+            if (json == null) {
+                sharedMisses.increment();
+                return null;
+            }
+            sharedHits.increment();
+            return objectMapper.readValue(json, UserProfileResponse.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            sharedErrors.increment();
+            log.warn("Shared profile cache read failed: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(UUID userId, UserProfileResponse profile) {
+        if (!sharedEnabled || profile == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(redisKey.profile(userId), objectMapper.writeValueAsString(profile), sharedTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            sharedErrors.increment();
+            log.warn("Shared profile cache write failed: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private void publish(UUID userId) {
+        try {
+            redis.convertAndSend(UserProfileRedisKey.INVALIDATION_CHANNEL, instanceId + ":" + userId);
+        } catch (DataAccessException e) {
+            log.warn("Profile invalidation publish failed, other instances expire it after local-ttl: userId={}",
+                    userId);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.r2s.user.domain.cache;
+
+import com.r2s.core.redis.CounterRedisTemplate;
+import com.r2s.user.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Approximate number of profiles kept in Redis, adjusted on create and delete. The counter is seeded from an exact
+ * {@code count(*)} when missing and expires after {@code ttl}, so drift from failed updates or a seed racing with
+ * writes is bounded by one period. Updates never create the key, otherwise an increment before the first seed would
+ * start the count at one.
+ */
+@Component
+@Slf4j
+public class UserProfileCounter {
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                return redis.call('incrby', KEYS[1], ARGV[1])
+            end
+            return nil
+            """, Long.class);
+
+    private final Duration ttl;
+    private final CounterRedisTemplate redis;
+    private final UserProfileRedisKey redisKey;
+    private final UserProfileRepository userProfileRepository;
+
+    public UserProfileCounter(
+            @Value("${user.profile-count.ttl:1h}") Duration ttl,
+            CounterRedisTemplate redis,
+            UserProfileRedisKey redisKey,
+            UserProfileRepository userProfileRepository
+    ) {
+        this.ttl = ttl;
+        this.redis = redis;
+        this.redisKey = redisKey;
+        this.userProfileRepository = userProfileRepository;
+    }
+
+    public void increment() {
+        add(1L);
+    }
+
+    public void decrement() {
+        add(-1L);
+    }
+
+    /**
+     * @return the counter, or {@code null} when it cannot be read or seeded
+     */
+    public Long get() {
+        String key = redisKey.count();
+        try {
+            Long count = redis.opsForValue().get(key);
+            if (count == null) {
+                count = userProfileRepository.count();
+                redis.opsForValue().setIfAbsent(key, count, ttl);
+            }
+            return count;
+        } catch (DataAccessException e) {
+            log.warn("User profile counter unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void add(Long delta) {
+        try {
+            redis.execute(INCREMENT_IF_PRESENT, List.of(redisKey.count()), delta);
+        } catch (DataAccessException e) {
+            log.warn("User profile counter update failed: delta={}, error={}", delta, e.getMessage());
+        }
+    }
+}
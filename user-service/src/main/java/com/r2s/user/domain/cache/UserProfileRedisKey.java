@@ -0,0 +1,18 @@
+package com.r2s.user.domain.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class UserProfileRedisKey {
+    public static final String INVALIDATION_CHANNEL = "user_profile:invalidate";
+
+    public String profile(UUID userId) {
+        return "user_profile:" + userId;
+    }
+
+    public String count() {
+        return "user_profile:count";
+    }
+}
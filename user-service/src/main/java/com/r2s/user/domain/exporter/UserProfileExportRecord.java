@@ -0,0 +1,18 @@
+package com.r2s.user.domain.exporter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserProfileExportRecord(
+        UUID id,
+        UUID userId,
+        String username,
+        String[] roles,
+        String fullName,
+        String email,
+        String phone,
+        String address,
+        String avatarUrl,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,101 @@
+package com.r2s.user.domain.exporter.writer;
+
+import com.r2s.user.domain.exporter.UserProfileExportRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Columns: {@code id,userId,username,roles,fullName,email,phone,address,avatarUrl,createdAt};
+ * roles are separated by {@code |}. Fields are quoted only when they contain a delimiter, quote or line break,
+ * and {@code null} is written as an empty field.
+ */
+@Component
+public class CsvUserProfileRecordWriterImpl implements UserProfileRecordWriter {
+    public static final String FORMAT = "csv";
+
+    private static final String HEADER = "id,userId,username,roles,fullName,email,phone,address,avatarUrl,createdAt\n";
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public String format() {
+        return FORMAT;
+    }
+
+    @Override
+    public String contentType() {
+        return "text/csv";
+    }
+
+    @Override
+    public Sink open(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        return new Sink() {
+            @Override
+            public void write(UserProfileExportRecord record) throws IOException {
+                writer.write(record.id().toString());
+                writer.write(',');
+                writer.write(record.userId().toString());
+                writer.write(',');
+                writeField(writer, record.username());
+                writer.write(',');
+                writeField(writer, String.join("|", record.roles()));
+                writer.write(',');
+                writeField(writer, record.fullName());
+                writer.write(',');
+                writeField(writer, record.email());
+                writer.write(',');
+                writeField(writer, record.phone());
+                writer.write(',');
+                writeField(writer, record.address());
+                writer.write(',');
+                writeField(writer, record.avatarUrl());
+                writer.write(',');
+                if (record.createdAt() != null) {
+                    writer.write(record.createdAt().toString());
+                }
+                writer.write('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.r2s.user.domain.exporter.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.r2s.user.domain.exporter.UserProfileExportRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+public class NdjsonUserProfileRecordWriterImpl implements UserProfileRecordWriter {
+    public static final String FORMAT = "ndjson";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Override
+    public String format() {
+        return FORMAT;
+    }
+
+    @Override
+    public String contentType() {
+        return "application/x-ndjson";
+    }
+
+    @Override
+    public Sink open(OutputStream output) throws IOException {
+        JsonGenerator generator = JSON.createGenerator(output, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return new Sink() {
+            @Override
+            public void write(UserProfileExportRecord record) throws IOException {
+                generator.writeStartObject();
+                generator.writeStringField("id", record.id().toString());
+                generator.writeStringField("userId", record.userId().toString());
+                generator.writeStringField("username", record.username());
+                generator.writeArrayFieldStart("roles");
+                for (String role : record.roles()) {
+                    generator.writeString(role);
+                }
+                generator.writeEndArray();
+                generator.writeStringField("fullName", record.fullName());
+                generator.writeStringField("email", record.email());
+                generator.writeStringField("phone", record.phone());
+                generator.writeStringField("address", record.address());
+                generator.writeStringField("avatarUrl", record.avatarUrl());
+                generator.writeStringField("createdAt",
+                        record.createdAt() == null ? null : record.createdAt().toString());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.r2s.user.domain.exporter.writer;
+
+import com.r2s.user.domain.exporter.UserProfileExportRecord;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserProfileRecordWriter {
+    String format();
+    String contentType();
+
+    /**
+     * Writes the header, if the format has one, and returns a sink that buffers on top of {@code output}.
+     * The sink never closes {@code output}; {@link Sink#flush()} must be called once after the last record.
+     */
+    Sink open(OutputStream output) throws IOException;
+
+    interface Sink {
+        void write(UserProfileExportRecord record) throws IOException;
+        void flush() throws IOException;
+    }
+}
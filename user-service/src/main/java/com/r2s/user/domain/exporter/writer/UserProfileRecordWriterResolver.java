@@ -0,0 +1,29 @@
+package com.r2s.user.domain.exporter.writer;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class UserProfileRecordWriterResolver {
+    private final Map<String, UserProfileRecordWriter> writers;
+
+    public UserProfileRecordWriterResolver(List<UserProfileRecordWriter> writers) {
+        this.writers = writers.stream()
+                .collect(Collectors.toUnmodifiableMap(UserProfileRecordWriter::format, Function.identity()));
+    }
+
+    public UserProfileRecordWriter resolve(String format) {
+        UserProfileRecordWriter writer = format == null ? null : writers.get(format.toLowerCase(Locale.ROOT));
+        if (writer == null) {
+            throw new AppException(ErrorCode.EXPORT_FORMAT_INVALID);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,12 @@
+package com.r2s.user.domain.pagination;
+
+/**
+ * How {@code /list?mode=slice} fills {@code totalElements}.
+ */
+public final class ListTotal {
+    private ListTotal() {}
+
+    public static final String NONE = "none";
+    public static final String ESTIMATE = "estimate";
+    public static final String COUNTER = "counter";
+}
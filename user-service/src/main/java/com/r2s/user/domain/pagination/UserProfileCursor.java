@@ -0,0 +1,63 @@
+package com.r2s.user.domain.pagination;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.projection.UserProfileView;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the {@code (created_at DESC, id DESC)} ordering of profiles, encoded as
+ * base64url of the epoch microseconds followed by the id. Postgres stores timestamps with
+ * microsecond precision, so a cursor taken from a loaded row seeks to exactly that row.
+ */
+public record UserProfileCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final int LENGTH = Long.BYTES * 3;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static UserProfileCursor of(UserProfileView profile) {
+        return new UserProfileCursor(profile.createdAt(), profile.id());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(LENGTH)
+                .putLong(toEpochMicros(createdAt))
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UserProfileCursor decode(String cursor) {
+        byte[] raw;
+        try {
+            raw = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        if (raw.length != LENGTH) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        LocalDateTime createdAt = fromEpochMicros(buffer.getLong());
+        return new UserProfileCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    private static long toEpochMicros(LocalDateTime value) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), value);
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.r2s.user.domain.pagination;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the {@code (rank DESC, id DESC)} ordering of search results, encoded as base64url of the
+ * rank's float bits followed by the id. The rank is the {@code real} Postgres computed, so it compares exactly.
+ */
+public record UserProfileSearchCursor(float rank, UUID id) {
+
+    private static final int LENGTH = Float.BYTES + Long.BYTES * 2;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static UserProfileSearchCursor of(UserProfileSearchHit hit) {
+        return new UserProfileSearchCursor(hit.rank(), hit.id());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(LENGTH)
+                .putFloat(rank)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UserProfileSearchCursor decode(String cursor) {
+        byte[] raw;
+        try {
+            raw = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        if (raw.length != LENGTH) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        float rank = buffer.getFloat();
+        if (!Float.isFinite(rank)) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        return new UserProfileSearchCursor(rank, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.r2s.user.domain.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A {@link UserProfileView} row from {@code /search} together with its rank, which the next-page cursor carries.
+ */
+public record UserProfileSearchHit(
+        UUID id,
+        String username,
+        String[] roles,
+        String fullName,
+        String email,
+        LocalDateTime createdAt,
+        float rank
+) {
+    public static final String MAPPING = "UserProfileSearchHit";
+}
@@ -0,0 +1,19 @@
+package com.r2s.user.domain.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row for the profile read endpoints: the response columns plus the keyset position.
+ * Native queries hand {@code roles} over as a Postgres array.
+ */
+public record UserProfileView(
+        UUID id,
+        String username,
+        String[] roles,
+        String fullName,
+        String email,
+        LocalDateTime createdAt
+) {
+    public static final String MAPPING = "UserProfileView";
+}
@@ -15,14 +15,30 @@ public class UserProfileValidation {
     private final UserProfileRepository userProfileRepository;
 
     public void validateCreate(UUID userId) {
-        if (userProfileRepository.findByUserId(userId).isPresent()) {
+        if (userProfileRepository.existsByUserId(userId)) {
             throw new AppException(ErrorCode.USER_EXISTS);
         }
     }
 
     public void validatePagination(int page, int size) {
-        if (page <= 0 || size <= 0 || size > 100) {
+        if (page <= 0) {
             throw new AppException(ErrorCode.INVALID_REQUEST);
         }
+        validatePageSize(size);
+    }
+
+    public void validatePageSize(int size) {
+        if (size <= 0 || size > 100) {
+            throw new AppException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * Shorter queries have no complete trigram, so the search indexes could not narrow them down.
+     */
+    public void validateSearchQuery(String query) {
+        if (query == null || query.length() < 3 || query.length() > 100) {
+            throw new AppException(ErrorCode.SEARCH_QUERY_INVALID);
+        }
     }
 }
\ No newline at end of file
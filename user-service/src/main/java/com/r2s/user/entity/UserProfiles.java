@@ -1,8 +1,11 @@
 package com.r2s.user.entity;
 
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+import com.r2s.user.domain.projection.UserProfileView;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.io.Serializable;
@@ -17,6 +20,29 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE)
+@SqlResultSetMapping(
+        name = UserProfileView.MAPPING,
+        classes = @ConstructorResult(targetClass = UserProfileView.class, columns = {
+                @ColumnResult(name = "id", type = UUID.class),
+                @ColumnResult(name = "username"),
+                @ColumnResult(name = "roles", type = String[].class),
+                @ColumnResult(name = "full_name"),
+                @ColumnResult(name = "email"),
+                @ColumnResult(name = "created_at", type = LocalDateTime.class)
+        })
+)
+@SqlResultSetMapping(
+        name = UserProfileSearchHit.MAPPING,
+        classes = @ConstructorResult(targetClass = UserProfileSearchHit.class, columns = {
+                @ColumnResult(name = "id", type = UUID.class),
+                @ColumnResult(name = "username"),
+                @ColumnResult(name = "roles", type = String[].class),
+                @ColumnResult(name = "full_name"),
+                @ColumnResult(name = "email"),
+                @ColumnResult(name = "created_at", type = LocalDateTime.class),
+                @ColumnResult(name = "rank", type = Float.class)
+        })
+)
 public class UserProfiles implements Serializable {
     @Id
     @GeneratedValue
@@ -30,7 +56,9 @@ public class UserProfiles implements Serializable {
     @Column(nullable = false, unique = true, length = 100)
     String username;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // reads go through UserProfileView; entities loaded together still fetch their roles in one statement
+    @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(
             name = "user_profile_roles",
             joinColumns = @JoinColumn(name = "profile_id")
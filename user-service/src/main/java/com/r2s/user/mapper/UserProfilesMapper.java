@@ -1,8 +1,12 @@
 package com.r2s.user.mapper;
 
 import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+import com.r2s.user.domain.projection.UserProfileView;
 import com.r2s.user.entity.UserProfiles;
 
+import java.util.List;
+
 
 public class UserProfilesMapper {
     public static UserProfileResponse toUserResponse(UserProfiles profile) {
@@ -13,4 +17,22 @@ public class UserProfilesMapper {
                 .email(profile.getEmail())
                 .build();
     }
+
+    public static UserProfileResponse toUserResponse(UserProfileView profile) {
+        return UserProfileResponse.builder()
+                .username(profile.username())
+                .role(List.of(profile.roles()))
+                .fullName(profile.fullName())
+                .email(profile.email())
+                .build();
+    }
+
+    public static UserProfileResponse toUserResponse(UserProfileSearchHit hit) {
+        return UserProfileResponse.builder()
+                .username(hit.username())
+                .role(List.of(hit.roles()))
+                .fullName(hit.fullName())
+                .email(hit.email())
+                .build();
+    }
 }
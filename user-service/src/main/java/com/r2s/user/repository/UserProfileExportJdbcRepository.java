@@ -0,0 +1,90 @@
+package com.r2s.user.repository;
+
+import com.r2s.user.domain.exporter.UserProfileExportRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads profiles for export through a forward-only cursor, {@code fetchSize} rows per round trip,
+ * handing each row to the consumer before the next one is read. The PostgreSQL driver only honors the fetch size
+ * with autocommit off, so the read runs in a transaction that stays open for the whole export.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserProfileExportJdbcRepository {
+
+    private static final String SELECT = """
+            SELECT p.id, p.user_id, p.username,
+                   ARRAY(SELECT r.role FROM user_profile_roles r WHERE r.profile_id = p.id ORDER BY r.role) AS roles,
+                   p.full_name, p.email, p.phone, p.address, p.avatar_url, p.created_at
+            FROM user_profiles p
+            """;
+    private static final String ORDER = " ORDER BY p.created_at, p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param createdFrom inclusive lower bound on {@code created_at}, or {@code null} for none
+     * @param createdTo   exclusive upper bound on {@code created_at}, or {@code null} for none
+     * @return number of rows handed to {@code consumer}
+     */
+    @Transactional(readOnly = true)
+    public long stream(LocalDateTime createdFrom, LocalDateTime createdTo, int fetchSize,
+                       Consumer<UserProfileExportRecord> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> args = new ArrayList<>(2);
+        if (createdFrom != null) {
+            sql.append(" WHERE p.created_at >= ?");
+            args.add(createdFrom);
+        }
+        if (createdTo != null) {
+            sql.append(args.isEmpty() ? " WHERE" : " AND").append(" p.created_at < ?");
+            args.add(createdTo);
+        }
+        sql.append(ORDER);
+
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            consumer.accept(toRecord(rs));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static UserProfileExportRecord toRecord(ResultSet rs) throws SQLException {
+        Array roles = rs.getArray("roles");
+        return new UserProfileExportRecord(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("username"),
+                (String[]) roles.getArray(),
+                rs.getString("full_name"),
+                rs.getString("email"),
+                rs.getString("phone"),
+                rs.getString("address"),
+                rs.getString("avatar_url"),
+                rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
@@ -1,11 +1,135 @@
 package com.r2s.user.repository;
 
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+import com.r2s.user.domain.projection.UserProfileView;
 import com.r2s.user.entity.UserProfiles;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserProfileRepository extends JpaRepository<UserProfiles, UUID> {
+
+    /**
+     * Only the columns a {@link UserProfileView} needs; roles come back as one array per row, so a page of
+     * views is a single statement and nothing enters the persistence context.
+     */
+    String VIEW_SELECT = """
+            SELECT p.id, p.username,
+                   ARRAY(SELECT r.role FROM user_profile_roles r WHERE r.profile_id = p.id) AS roles,
+                   p.full_name, p.email, p.created_at
+            FROM user_profiles p
+            """;
+    String VIEW_ORDER = " ORDER BY p.created_at DESC, p.id DESC";
+
+    /**
+     * Matches {@code :pattern} (an escaped {@code %query%}) on the trigram-indexed columns and ranks each match by
+     * its closest field. Each column contributes its {@code :limit} nearest matches past the cursor through its GiST
+     * {@code <->} index; since the rank is the best of the three similarities, those rows always contain the next
+     * {@code :limit} in global {@code (rank DESC, id DESC)} order, however many rows match. Roles are read only for
+     * the rows of the returned page.
+     */
+    String SEARCH_RANK =
+            "GREATEST(similarity(p.username, :query), similarity(p.full_name, :query), similarity(p.email, :query))";
+    String SEARCH_SELECT = "SELECT p.id, p.username,"
+            + " ARRAY(SELECT r.role FROM user_profile_roles r WHERE r.profile_id = p.id) AS roles,"
+            + " p.full_name, p.email, p.created_at, " + SEARCH_RANK + " AS rank"
+            + " FROM user_profiles p WHERE p.id IN (";
+    String SEARCH_MATCHES = "(SELECT p.id FROM user_profiles p"
+            + " WHERE (p.username ILIKE :pattern OR p.full_name ILIKE :pattern OR p.email ILIKE :pattern)";
+    String SEARCH_AFTER = " AND (" + SEARCH_RANK + ", p.id) < (:rank, :id)";
+    String NEAREST_USERNAME = " ORDER BY p.username <-> :query, p.id DESC LIMIT :limit)";
+    String NEAREST_FULL_NAME = " ORDER BY p.full_name <-> :query, p.id DESC LIMIT :limit)";
+    String NEAREST_EMAIL = " ORDER BY p.email <-> :query, p.id DESC LIMIT :limit)";
+    String SEARCH_ORDER = ") ORDER BY rank DESC, p.id DESC LIMIT :limit";
+
+    @EntityGraph(attributePaths = "roles")
     Optional<UserProfiles> findByUserId(UUID userId);
+
+    boolean existsByUserId(UUID userId);
+
+    @NativeQuery(value = VIEW_SELECT + " WHERE p.user_id = :userId", sqlResultSetMapping = UserProfileView.MAPPING)
+    Optional<UserProfileView> findViewByUserId(@Param("userId") UUID userId);
+
+    @NativeQuery(
+            value = VIEW_SELECT + VIEW_ORDER,
+            countQuery = "SELECT count(*) FROM user_profiles",
+            sqlResultSetMapping = UserProfileView.MAPPING
+    )
+    Page<UserProfileView> findViews(Pageable pageable);
+
+    @NativeQuery(value = VIEW_SELECT + VIEW_ORDER, sqlResultSetMapping = UserProfileView.MAPPING)
+    Slice<UserProfileView> findViewSlice(Pageable pageable);
+
+    @NativeQuery(value = VIEW_SELECT + VIEW_ORDER + " LIMIT :limit", sqlResultSetMapping = UserProfileView.MAPPING)
+    List<UserProfileView> findFirstViews(@Param("limit") int limit);
+
+    /**
+     * The row comparison matches the {@code (created_at DESC, id DESC)} index, so Postgres
+     * starts the scan at the cursor instead of skipping the preceding rows.
+     */
+    @NativeQuery(
+            value = VIEW_SELECT + " WHERE (p.created_at, p.id) < (:createdAt, :id)" + VIEW_ORDER + " LIMIT :limit",
+            sqlResultSetMapping = UserProfileView.MAPPING
+    )
+    List<UserProfileView> findViewsAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    @NativeQuery(
+            value = SEARCH_SELECT
+                    + SEARCH_MATCHES + NEAREST_USERNAME
+                    + " UNION " + SEARCH_MATCHES + NEAREST_FULL_NAME
+                    + " UNION " + SEARCH_MATCHES + NEAREST_EMAIL
+                    + SEARCH_ORDER,
+            sqlResultSetMapping = UserProfileSearchHit.MAPPING
+    )
+    List<UserProfileSearchHit> searchFirst(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("limit") int limit
+    );
+
+    @NativeQuery(
+            value = SEARCH_SELECT
+                    + SEARCH_MATCHES + SEARCH_AFTER + NEAREST_USERNAME
+                    + " UNION " + SEARCH_MATCHES + SEARCH_AFTER + NEAREST_FULL_NAME
+                    + " UNION " + SEARCH_MATCHES + SEARCH_AFTER + NEAREST_EMAIL
+                    + SEARCH_ORDER,
+            sqlResultSetMapping = UserProfileSearchHit.MAPPING
+    )
+    List<UserProfileSearchHit> searchAfter(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("rank") float rank,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Row count as the planner sees it: {@code reltuples} scaled to the current table size. Returns
+     * {@code null} if the table has never been analyzed.
+     */
+    @Query(value = """
+            SELECT CASE
+                WHEN c.reltuples < 0 THEN NULL
+                WHEN c.relpages = 0 THEN 0
+                ELSE CAST(c.reltuples / c.relpages
+                        * (pg_relation_size(c.oid) / CAST(current_setting('block_size') AS integer)) AS bigint)
+            END
+            FROM pg_class c
+            WHERE c.oid = CAST('user_profiles' AS regclass)
+            """, nativeQuery = true)
+    Long estimateCount();
 }
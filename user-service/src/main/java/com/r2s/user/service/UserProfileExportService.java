@@ -0,0 +1,11 @@
+package com.r2s.user.service;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+public interface UserProfileExportService {
+    long export(String format, LocalDateTime createdFrom, LocalDateTime createdTo, HttpServletResponse response)
+            throws IOException;
+}
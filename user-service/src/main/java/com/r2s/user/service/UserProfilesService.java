@@ -2,7 +2,9 @@ package com.r2s.user.service;
 
 import com.r2s.core.dto.request.UserCreatedRequest;
 import com.r2s.core.dto.request.UserUpdatedRequest;
+import com.r2s.core.dto.response.CursorPageResponse;
 import com.r2s.core.dto.response.PageResponse;
+import com.r2s.core.dto.response.SliceResponse;
 import com.r2s.core.dto.response.UserProfileResponse;
 
 import java.util.UUID;
@@ -12,6 +14,12 @@ public interface UserProfilesService {
 
     PageResponse<UserProfileResponse> getList(int page, int size);
 
+    CursorPageResponse<UserProfileResponse> getListByCursor(String cursor, int size);
+
+    SliceResponse<UserProfileResponse> getSlice(int page, int size, String total);
+
+    CursorPageResponse<UserProfileResponse> search(String query, String cursor, int size);
+
     UserProfileResponse getMe();
 
     UserProfileResponse update(UserUpdatedRequest request);
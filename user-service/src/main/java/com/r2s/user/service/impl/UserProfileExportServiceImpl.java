@@ -0,0 +1,107 @@
+package com.r2s.user.service.impl;
+
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.exporter.writer.UserProfileRecordWriter;
+import com.r2s.user.domain.exporter.writer.UserProfileRecordWriterResolver;
+import com.r2s.user.repository.UserProfileExportJdbcRepository;
+import com.r2s.user.service.UserProfileExportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams profiles from {@link UserProfileExportJdbcRepository} straight into the response body, so memory stays
+ * at one fetch batch plus the writer buffer regardless of how many rows are exported. Status and headers are
+ * committed with the first buffer; a failure after that can only abort the response.
+ */
+@Service
+@Slf4j
+public class UserProfileExportServiceImpl implements UserProfileExportService {
+
+    private static final String METRIC_PREFIX = "user.profile.export";
+
+    private final UserProfileExportJdbcRepository userProfileExportJdbcRepository;
+    private final UserProfileRecordWriterResolver userProfileRecordWriterResolver;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+
+    public UserProfileExportServiceImpl(
+            UserProfileExportJdbcRepository userProfileExportJdbcRepository,
+            UserProfileRecordWriterResolver userProfileRecordWriterResolver,
+            MeterRegistry meterRegistry,
+            @Value("${user.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.userProfileExportJdbcRepository = userProfileExportJdbcRepository;
+        this.userProfileRecordWriterResolver = userProfileRecordWriterResolver;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long export(String format, LocalDateTime createdFrom, LocalDateTime createdTo,
+                       HttpServletResponse response) throws IOException {
+        UserProfileRecordWriter writer = userProfileRecordWriterResolver.resolve(format);
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST);
+        }
+
+        response.setContentType(writer.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"user-profiles." + writer.format() + "\"");
+
+        Counter rowCounter = Counter.builder(METRIC_PREFIX + ".rows")
+                .tag("format", writer.format())
+                .register(meterRegistry);
+        long started = System.nanoTime();
+        long rows;
+        try {
+            UserProfileRecordWriter.Sink sink = writer.open(response.getOutputStream());
+            rows = userProfileExportJdbcRepository.stream(createdFrom, createdTo, fetchSize, record -> {
+                try {
+                    sink.write(record);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rowCounter.increment();
+            });
+            sink.flush();
+        } catch (UncheckedIOException e) {
+            log.warn("User profile export aborted: format={}, after {} ms",
+                    writer.format(), (System.nanoTime() - started) / 1_000_000, e.getCause());
+            throw e.getCause();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = rate(rows, elapsedNanos);
+        Timer.builder(METRIC_PREFIX)
+                .tag("format", writer.format())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(METRIC_PREFIX + ".rate")
+                .baseUnit("rows/s")
+                .tag("format", writer.format())
+                .register(meterRegistry)
+                .record(rowsPerSecond);
+        log.info("User profile export completed: format={}, createdFrom={}, createdTo={}, rows={}, {} rows/s",
+                writer.format(), createdFrom, createdTo, rows, Math.round(rowsPerSecond));
+
+        return rows;
+    }
+
+    private static double rate(long rows, long elapsedNanos) {
+        return elapsedNanos <= 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -2,12 +2,21 @@ package com.r2s.user.service.impl;
 
 import com.r2s.core.dto.request.UserCreatedRequest;
 import com.r2s.core.dto.request.UserUpdatedRequest;
+import com.r2s.core.dto.response.CursorPageResponse;
 import com.r2s.core.dto.response.PageResponse;
+import com.r2s.core.dto.response.SliceResponse;
 import com.r2s.core.dto.response.UserProfileResponse;
 import com.r2s.core.exception.AppException;
 import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileCounter;
 import com.r2s.user.domain.factory.UserProfileFactory;
 import com.r2s.user.domain.helper.SecurityContextHelper;
+import com.r2s.user.domain.pagination.ListTotal;
+import com.r2s.user.domain.pagination.UserProfileCursor;
+import com.r2s.user.domain.pagination.UserProfileSearchCursor;
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+import com.r2s.user.domain.projection.UserProfileView;
 import com.r2s.user.domain.validation.UserProfileValidation;
 import com.r2s.user.entity.UserProfiles;
 import com.r2s.user.mapper.UserProfilesMapper;
@@ -19,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -32,6 +42,8 @@ public class UserProfilesServiceImpl implements UserProfilesService {
     SecurityContextHelper securityContextHelper;
     UserProfileFactory userProfileFactory;
     UserProfileValidation userProfileValidation;
+    UserProfileCache userProfileCache;
+    UserProfileCounter userProfileCounter;
 
     @Override
     public UserProfileResponse create(UserCreatedRequest request) {
@@ -45,30 +57,31 @@ public class UserProfilesServiceImpl implements UserProfilesService {
                 securityContextHelper.getCurrentRoles()
         );
         userProfileRepository.save(profile);
+        userProfileCounter.increment();
         log.info("User profile created successfully: {}", profile);
 
-        return UserProfilesMapper.toUserResponse(profile);
+        UserProfileResponse response = UserProfilesMapper.toUserResponse(profile);
+        userProfileCache.put(userId, response);
+        return response;
     }
 
     @Override
     public UserProfileResponse getMe() {
         UUID userId = securityContextHelper.getCurrentUserId();
-        UserProfiles profile = userProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
-        log.info("Get user profile successfully: {}", profile);
-
-        return UserProfilesMapper.toUserResponse(profile);
+        return userProfileCache.get(userId, id -> {
+            UserProfileView profile = userProfileRepository.findViewByUserId(id)
+                    .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+            log.info("Get user profile successfully: {}", profile);
+            return UserProfilesMapper.toUserResponse(profile);
+        });
     }
 
     @Override
     public PageResponse<UserProfileResponse> getList(int page, int size) {
         userProfileValidation.validatePagination(page, size);
-        Pageable pageable = PageRequest.of(
-                page - 1,
-                size,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-        Page<UserProfiles> pageData = userProfileRepository.findAll(pageable);
+        // the query orders by (created_at, id) itself
+        Pageable pageable = PageRequest.of(page - 1, size);
+        Page<UserProfileView> pageData = userProfileRepository.findViews(pageable);
         log.info("Get list user profile: {}", pageData);
 
         return PageResponse.<UserProfileResponse>builder()
@@ -85,6 +98,96 @@ public class UserProfilesServiceImpl implements UserProfilesService {
                 .build();
     }
 
+    @Override
+    public CursorPageResponse<UserProfileResponse> getListByCursor(String cursor, int size) {
+        userProfileValidation.validatePageSize(size);
+        // one extra row tells whether a next page exists without a count query
+        List<UserProfileView> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = userProfileRepository.findFirstViews(size + 1);
+        } else {
+            UserProfileCursor after = UserProfileCursor.decode(cursor);
+            rows = userProfileRepository.findViewsAfter(after.createdAt(), after.id(), size + 1);
+        }
+        boolean hasNext = rows.size() > size;
+        List<UserProfileView> page = hasNext ? rows.subList(0, size) : rows;
+        log.info("Get list user profile by cursor: {} rows, hasNext={}", page.size(), hasNext);
+
+        return CursorPageResponse.<UserProfileResponse>builder()
+                .pageSize(size)
+                .nextCursor(hasNext ? UserProfileCursor.of(page.get(size - 1)).encode() : null)
+                .data(
+                        page.stream()
+                                .map(UserProfilesMapper::toUserResponse)
+                                .toList()
+                )
+                .build();
+    }
+
+    @Override
+    public SliceResponse<UserProfileResponse> getSlice(int page, int size, String total) {
+        userProfileValidation.validatePagination(page, size);
+        Long totalElements = countProfiles(total);
+        Pageable pageable = PageRequest.of(page - 1, size);
+        // a Slice fetches size + 1 rows to fill hasNext and never runs count(*)
+        Slice<UserProfileView> sliceData = userProfileRepository.findViewSlice(pageable);
+        log.info("Get slice user profile: page={}, hasNext={}", page, sliceData.hasNext());
+
+        return SliceResponse.<UserProfileResponse>builder()
+                .currentPage(page)
+                .pageSize(size)
+                .hasNext(sliceData.hasNext())
+                .totalElements(totalElements)
+                .data(
+                        sliceData.getContent()
+                                .stream()
+                                .map(UserProfilesMapper::toUserResponse)
+                                .toList()
+                )
+                .build();
+    }
+
+    @Override
+    public CursorPageResponse<UserProfileResponse> search(String query, String cursor, int size) {
+        String trimmed = query == null ? null : query.trim();
+        userProfileValidation.validateSearchQuery(trimmed);
+        userProfileValidation.validatePageSize(size);
+        String pattern = "%" + escapeLike(trimmed) + "%";
+        List<UserProfileSearchHit> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = userProfileRepository.searchFirst(trimmed, pattern, size + 1);
+        } else {
+            UserProfileSearchCursor after = UserProfileSearchCursor.decode(cursor);
+            rows = userProfileRepository.searchAfter(trimmed, pattern, after.rank(), after.id(), size + 1);
+        }
+        boolean hasNext = rows.size() > size;
+        List<UserProfileSearchHit> page = hasNext ? rows.subList(0, size) : rows;
+        log.info("Search user profile: {} rows, hasNext={}", page.size(), hasNext);
+
+        return CursorPageResponse.<UserProfileResponse>builder()
+                .pageSize(size)
+                .nextCursor(hasNext ? UserProfileSearchCursor.of(page.get(size - 1)).encode() : null)
+                .data(
+                        page.stream()
+                                .map(UserProfilesMapper::toUserResponse)
+                                .toList()
+                )
+                .build();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Long countProfiles(String total) {
+        return switch (total) {
+            case ListTotal.NONE -> null;
+            case ListTotal.ESTIMATE -> userProfileRepository.estimateCount();
+            case ListTotal.COUNTER -> userProfileCounter.get();
+            default -> throw new AppException(ErrorCode.INVALID_REQUEST);
+        };
+    }
+
     @Override
     public UserProfileResponse update(UserUpdatedRequest request) {
         UUID userId = securityContextHelper.getCurrentUserId();
@@ -99,7 +202,9 @@ public class UserProfilesServiceImpl implements UserProfilesService {
         userProfileRepository.save(profile);
         log.info("User profile updated successfully: {}", profile);
 
-        return UserProfilesMapper.toUserResponse(profile);
+        UserProfileResponse response = UserProfilesMapper.toUserResponse(profile);
+        userProfileCache.put(userId, response);
+        return response;
     }
 
     @Override
@@ -107,6 +212,8 @@ public class UserProfilesServiceImpl implements UserProfilesService {
         UserProfiles profile = userProfileRepository.findByUserId(id)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
         userProfileRepository.delete(profile);
+        userProfileCache.evict(id);
+        userProfileCounter.decrement();
         log.info("User profile deleted successfully: {}", profile);
 
         return "User profile deleted successfully";
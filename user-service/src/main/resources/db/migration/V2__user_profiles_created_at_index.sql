@@ -0,0 +1,5 @@
+-- Keyset pagination on /list seeks on (created_at, id) in this order.
+-- Built concurrently so the migration does not block writes on a large table;
+-- Flyway runs this script outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_created_at_id
+    ON user_profiles (created_at DESC, id DESC);
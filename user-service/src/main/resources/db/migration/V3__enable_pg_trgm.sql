@@ -0,0 +1,3 @@
+-- Trigram operator classes for the /search indexes. pg_trgm is a trusted extension,
+-- so the database owner can create it without superuser.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,11 @@
+-- /search matches ILIKE '%query%' on each of these columns; trigram GIN indexes
+-- turn that into a bitmap index scan instead of a sequential scan.
+-- Built concurrently, outside a transaction, like V2.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_username_trgm
+    ON user_profiles USING gin (username gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_full_name_trgm
+    ON user_profiles USING gin (full_name gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_email_trgm
+    ON user_profiles USING gin (email gin_trgm_ops);
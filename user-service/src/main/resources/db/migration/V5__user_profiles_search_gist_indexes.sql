@@ -0,0 +1,11 @@
+-- /search ranks by trigram similarity; GiST trigram indexes return rows of each column
+-- in <-> (1 - similarity) order, so a page reads only its nearest matches.
+-- Built concurrently, outside a transaction, like V2.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_username_trgm_gist
+    ON user_profiles USING gist (username gist_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_full_name_trgm_gist
+    ON user_profiles USING gist (full_name gist_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profiles_email_trgm_gist
+    ON user_profiles USING gist (email gist_trgm_ops);
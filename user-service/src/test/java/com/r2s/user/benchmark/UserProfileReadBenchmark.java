@@ -0,0 +1,144 @@
+package com.r2s.user.benchmark;
+
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.UserServiceApplication;
+import com.r2s.user.entity.UserProfiles;
+import com.r2s.user.mapper.UserProfilesMapper;
+import com.r2s.user.repository.UserProfileRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per read: hydrating managed entities in a read-only transaction and mapping them (the read path
+ * before projections) against the projection queries the endpoints use now. Compare {@code gc.alloc.rate.norm}.
+ * Each fork starts Postgres and Redis containers and the application context once, then seeds {@code rows}
+ * profiles with two roles and filled TEXT columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserProfileReadBenchmark {
+
+    private static final String ENTITY_PAGE =
+            "select p from UserProfiles p order by p.createdAt desc, p.id desc";
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final int rows = 10_000;
+
+    private PostgreSQLContainer<?> postgres;
+    private GenericContainer<?> redis;
+    private ConfigurableApplicationContext context;
+    private UserProfileRepository userProfileRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        postgres.start();
+        redis.start();
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.data.redis.host=" + redis.getHost(),
+                        "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--jwt.signerKey=qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==",
+                        "--logging.level.root=WARN"
+                );
+        userProfileRepository = context.getBean(UserProfileRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO user_profiles (id, user_id, username, full_name, email, phone, address, avatar_url, created_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'user_' || g, 'Full Name ' || g, 'user_' || g || '@example.com',
+                       '0123456789', repeat('Street address ', 8), 'https://cdn.example.com/avatars/' || md5(g::text) || '.png',
+                       now() - g * interval '1 second'
+                FROM generate_series(1, ?) g
+                """, rows);
+        jdbcTemplate.update("""
+                INSERT INTO user_profile_roles (profile_id, role)
+                SELECT id, role FROM user_profiles, unnest(ARRAY['ROLE_USER', 'ROLE_MODERATOR']) role
+                """);
+        jdbcTemplate.execute("ANALYZE user_profiles");
+        jdbcTemplate.execute("ANALYZE user_profile_roles");
+        userId = jdbcTemplate.queryForObject("SELECT user_id FROM user_profiles LIMIT 1", UUID.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redis.stop();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<UserProfileResponse> entityPage() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_PAGE, UserProfiles.class)
+                .setMaxResults(size + 1)
+                .getResultList()
+                .stream()
+                .limit(size)
+                .map(UserProfilesMapper::toUserResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<UserProfileResponse> projectionPage() {
+        return userProfileRepository.findViewSlice(PageRequest.of(0, size))
+                .getContent()
+                .stream()
+                .map(UserProfilesMapper::toUserResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public UserProfileResponse entityLookup() {
+        return readOnly.execute(status -> UserProfilesMapper.toUserResponse(
+                userProfileRepository.findByUserId(userId).orElseThrow()));
+    }
+
+    @Benchmark
+    public UserProfileResponse projectionLookup() {
+        return UserProfilesMapper.toUserResponse(userProfileRepository.findViewByUserId(userId).orElseThrow());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserProfileReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
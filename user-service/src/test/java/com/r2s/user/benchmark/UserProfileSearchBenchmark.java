@@ -0,0 +1,136 @@
+package com.r2s.user.benchmark;
+
+import com.r2s.core.dto.response.CursorPageResponse;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.UserServiceApplication;
+import com.r2s.user.service.UserProfilesService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@code /search} pages as the table grows, for a selective username, a name that matches 1 in 64 rows
+ * and a surname that matches 1 in 8. Seeds {@code profiles} rows with mixed names and email domains.
+ * <p>
+ * Runs against a local Postgres and Redis when {@code -Dbenchmark.datasource.url} (plus {@code .username},
+ * {@code .password}, {@code benchmark.redis.host} and {@code .port}) is set, otherwise against containers.
+ * A local database is reseeded only when its row count differs from {@code profiles}, so point it at a scratch database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserProfileSearchBenchmark {
+
+    private static final String URL = System.getProperty("benchmark.datasource.url");
+
+    // JMH orders parameters by name, so the table size changes least often and is seeded once per size
+    @Param({"100000", "1000000"})
+    private int profiles;
+
+    @Param({"user_42424", "linh tran", "nguyen"})
+    private String query;
+
+    private final int size = 20;
+
+    private PostgreSQLContainer<?> postgres;
+    private GenericContainer<?> redis;
+    private ConfigurableApplicationContext context;
+    private UserProfilesService userProfilesService;
+    private String secondPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>();
+        if (URL == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+            postgres.start();
+            redis.start();
+            args.add("--spring.datasource.url=" + postgres.getJdbcUrl());
+            args.add("--spring.datasource.username=" + postgres.getUsername());
+            args.add("--spring.datasource.password=" + postgres.getPassword());
+            args.add("--spring.data.redis.host=" + redis.getHost());
+            args.add("--spring.data.redis.port=" + redis.getMappedPort(6379));
+        } else {
+            args.add("--spring.datasource.url=" + URL);
+            args.add("--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "postgres"));
+            args.add("--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""));
+            args.add("--spring.data.redis.host=" + System.getProperty("benchmark.redis.host", "localhost"));
+            args.add("--spring.data.redis.port=" + System.getProperty("benchmark.redis.port", "6379"));
+        }
+        args.addAll(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--jwt.signerKey=qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==",
+                "--logging.level.root=WARN",
+                "--logging.level.com.r2s=WARN"
+        ));
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+        userProfilesService = context.getBean(UserProfilesService.class);
+        seed(context.getBean(JdbcTemplate.class));
+        secondPage = userProfilesService.search(query, null, size).getNextCursor();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM user_profiles", Long.class);
+        if (count != null && count == profiles) {
+            return;
+        }
+        jdbcTemplate.execute("TRUNCATE user_profiles CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO user_profiles (id, user_id, username, full_name, email, created_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'user_' || g,
+                       (ARRAY['John', 'Mary', 'Linh', 'Tuan', 'Anna', 'Peter', 'Minh', 'Sofia'])[1 + g % 8] || ' '
+                           || (ARRAY['Smith', 'Nguyen', 'Tran', 'Garcia', 'Brown', 'Le', 'Pham', 'Muller'])[1 + (g / 8) % 8]
+                           || ' ' || substr(md5(g::text), 1, 6),
+                       'user_' || g || '@' || (ARRAY['example.com', 'mail.test', 'corp.local'])[1 + g % 3],
+                       now() - g * interval '1 second'
+                FROM generate_series(1, ?) g
+                """, profiles);
+        jdbcTemplate.update("INSERT INTO user_profile_roles (profile_id, role) SELECT id, 'ROLE_USER' FROM user_profiles");
+        jdbcTemplate.execute("VACUUM ANALYZE user_profiles");
+        jdbcTemplate.execute("VACUUM ANALYZE user_profile_roles");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (postgres != null) {
+            redis.stop();
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public CursorPageResponse<UserProfileResponse> firstPage() {
+        return userProfilesService.search(query, null, size);
+    }
+
+    @Benchmark
+    public CursorPageResponse<UserProfileResponse> nextPage() {
+        return userProfilesService.search(query, secondPage, size);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserProfileSearchBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.r2s.user.test.integration;
+
+import com.r2s.core.ratelimit.RateLimitBlockFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@ActiveProfiles("test")
+@Testcontainers
+class RateLimitDisabledIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("user_test_db")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("jwt.signerKey", () -> "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==");
+    }
+
+    @Autowired
+    ApplicationContext context;
+
+    @Autowired
+    SecurityFilterChain securityFilterChain;
+
+    @Test
+    void securityFilterChain_rateLimitDisabled_startsWithoutBlockFilter() {
+        assertThat(context.getBeanNamesForType(RateLimitBlockFilter.class)).isEmpty();
+        assertThat(securityFilterChain.getFilters())
+                .noneMatch(RateLimitBlockFilter.class::isInstance)
+                .anyMatch(BearerTokenAuthenticationFilter.class::isInstance);
+    }
+}
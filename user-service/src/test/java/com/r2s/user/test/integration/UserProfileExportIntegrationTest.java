@@ -0,0 +1,150 @@
+package com.r2s.user.test.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.service.UserProfileExportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "user.export.fetch-size=2")
+@ActiveProfiles("test")
+@Testcontainers
+@Transactional
+class UserProfileExportIntegrationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("user_test_db")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("jwt.signerKey", () -> "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==");
+    }
+
+    @Autowired
+    UserProfileExportService userProfileExportService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM user_profiles");
+        for (int i = 0; i < 7; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update(
+                    "INSERT INTO user_profiles (id, user_id, username, full_name, address, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)",
+                    id, UUID.randomUUID(), "export_" + i, "Export " + i, "1 Main St, \"Unit\" " + i,
+                    START.plusDays(i));
+            jdbcTemplate.update("INSERT INTO user_profile_roles (profile_id, role) VALUES (?, 'ROLE_USER')", id);
+            if (i % 2 == 0) {
+                jdbcTemplate.update("INSERT INTO user_profile_roles (profile_id, role) VALUES (?, 'ROLE_ADMIN')", id);
+            }
+        }
+    }
+
+    @Test
+    void exportNdjson_streamsEveryProfileInCreatedOrder() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        double before = exportedRows("ndjson");
+
+        long rows = userProfileExportService.export("ndjson", null, null, response);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.getContentAsString().split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).isEqualTo(7);
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(lines).extracting(line -> line.get("username").asText())
+                .containsExactly("export_0", "export_1", "export_2", "export_3", "export_4", "export_5", "export_6");
+        assertThat(lines.get(0).get("roles")).hasSize(2);
+        assertThat(lines.get(1).get("address").asText()).isEqualTo("1 Main St, \"Unit\" 1");
+        assertThat(lines.get(1).get("email").isNull()).isTrue();
+        assertThat(lines.get(1).get("createdAt").asText()).isEqualTo("2024-01-02T00:00");
+        assertThat(exportedRows("ndjson") - before).isEqualTo(7);
+    }
+
+    @Test
+    void exportCsv_appliesCreatedAtRange() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long rows = userProfileExportService.export("CSV", START.plusDays(2), START.plusDays(5), response);
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("id,userId,username,roles,fullName,email,phone,address,avatarUrl,createdAt");
+        assertThat(lines[1]).contains(",export_2,ROLE_ADMIN|ROLE_USER,Export 2,,,\"1 Main St, \"\"Unit\"\" 2\",,2024-01-03T00:00")
+                .doesNotContain("null");
+        assertThat(lines[3]).contains(",export_4,");
+    }
+
+    @Test
+    void export_rejectsUnknownFormatAndEmptyRange_beforeWriting() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> userProfileExportService.export("xml", null, null, response))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPORT_FORMAT_INVALID);
+        assertThatThrownBy(() -> userProfileExportService.export("csv", START, START, response))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private double exportedRows(String format) {
+        var counter = meterRegistry.find("user.profile.export.rows").tag("format", format).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,156 @@
+package com.r2s.user.test.integration;
+
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.domain.pagination.ListTotal;
+import com.r2s.user.entity.UserProfiles;
+import com.r2s.user.repository.UserProfileRepository;
+import com.r2s.user.service.UserProfilesService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Transactional
+class UserProfileQueryCountIntegrationTest {
+
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_MODERATOR");
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("user_test_db")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("jwt.signerKey", () -> "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==");
+        registry.add("user.profile-cache.enabled", () -> false);
+    }
+
+    @Autowired
+    UserProfilesService userProfilesService;
+
+    @Autowired
+    UserProfileRepository userProfileRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    UUID firstUserId;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < 60; i++) {
+            UserProfiles profile = userProfileRepository.save(UserProfiles.builder()
+                    .userId(UUID.randomUUID())
+                    .username("query_count_" + i)
+                    .roles(ROLES)
+                    .build());
+            if (firstUserId == null) {
+                firstUserId = profile.getUserId();
+            }
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getList_statementsDoNotGrowWithPageSize() {
+        for (int size : new int[]{5, 50}) {
+            Statistics statistics = resetStatistics();
+
+            List<UserProfileResponse> data = userProfilesService.getList(1, size).getData();
+
+            assertThat(data).hasSize(size).allSatisfy(profile -> assertThat(profile.getRole()).hasSize(2));
+            // page with roles, count(*)
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Test
+    void getSliceAndCursor_loadPageAndRolesInOneStatement() {
+        for (int size : new int[]{5, 50}) {
+            Statistics statistics = resetStatistics();
+            List<UserProfileResponse> slice = userProfilesService.getSlice(1, size, ListTotal.NONE).getData();
+            assertThat(slice).hasSize(size).allSatisfy(profile -> assertThat(profile.getRole()).hasSize(2));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            statistics = resetStatistics();
+            List<UserProfileResponse> page = userProfilesService.getListByCursor(null, size).getData();
+            assertThat(page).hasSize(size).allSatisfy(profile -> assertThat(profile.getRole()).hasSize(2));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Test
+    void getMe_loadsProfileAndRolesInOneStatement() {
+        authenticateAs(firstUserId);
+        Statistics statistics = resetStatistics();
+
+        assertThat(userProfilesService.getMe().getRole()).containsExactlyInAnyOrderElementsOf(ROLES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Statistics resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void authenticateAs(UUID userId) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject(userId.toString())
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
@@ -0,0 +1,165 @@
+package com.r2s.user.test.integration;
+
+import com.r2s.core.dto.response.CursorPageResponse;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.user.service.UserProfilesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Transactional
+class UserProfileSearchIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("user_test_db")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("jwt.signerKey", () -> "qxDRHYT3pRMIJkG7pFsaUkbSkFr3+X3hi3n1ci64B7mAS7RH+Ws4V0ao/nHyyBgGWZY2FpEKCgTXNUpf79t2Tw==");
+    }
+
+    @Autowired
+    UserProfilesService userProfilesService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM user_profiles");
+        profile("linh_tran", "Linh Tran", "linh.tran@example.com");
+        profile("ltran", "Tran Thi Linh", "ltran@corp.test");
+        profile("john_smith", "John Smith", "john@example.com");
+        profile("johnathan", null, "j.athan@mail.test");
+        profile("user50", "Fifty Percent", "sale_50%@shop.test");
+        for (int i = 0; i < 25; i++) {
+            profile("nguyen_" + i, "Nguyen Van " + i, "nguyen" + i + "@example.com");
+        }
+    }
+
+    @Test
+    void search_ranksClosestFieldFirst_acrossUsernameNameAndEmail() {
+        List<String> byName = usernames(userProfilesService.search("linh tran", null, 10));
+        List<String> byEmail = usernames(userProfilesService.search("j.athan@", null, 10));
+        List<String> byUsername = usernames(userProfilesService.search("JOHN", null, 10));
+
+        assertThat(byName).containsExactly("linh_tran");
+        assertThat(byEmail).containsExactly("johnathan");
+        assertThat(byUsername).containsExactly("john_smith", "johnathan");
+    }
+
+    @Test
+    void search_treatsLikeWildcardsLiterally() {
+        assertThat(usernames(userProfilesService.search("_50%", null, 10))).containsExactly("user50");
+        assertThat(usernames(userProfilesService.search("n_ye", null, 10))).isEmpty();
+    }
+
+    @Test
+    void search_walksAllMatchesByCursor_withoutDuplicates() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<UserProfileResponse> page = userProfilesService.search("nguyen", cursor, 4);
+            seen.addAll(usernames(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void search_manyMatches_returnsExactMatchFirst_andPagesInGlobalRankOrder() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            String username = "pham" + "_x".repeat(i % 9) + i;
+            rows.add(new Object[]{UUID.randomUUID(), UUID.randomUUID(), username, "Pham " + i, username + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_profiles (id, user_id, username, full_name, email) VALUES (?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.update(
+                "INSERT INTO user_profiles (id, user_id, username, full_name, email) VALUES (?, ?, ?, ?, ?)",
+                new UUID(0, 1), UUID.randomUUID(), "pham", "Pham", "pham@example.com");
+        List<String> expected = jdbcTemplate.queryForList("""
+                SELECT username FROM user_profiles
+                WHERE username ILIKE '%pham%' OR full_name ILIKE '%pham%' OR email ILIKE '%pham%'
+                ORDER BY GREATEST(similarity(username, 'pham'), similarity(full_name, 'pham'),
+                                  similarity(email, 'pham')) DESC, id DESC
+                """, String.class);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<UserProfileResponse> page = userProfilesService.search("pham", cursor, 50);
+            seen.addAll(usernames(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen.get(0)).isEqualTo("pham");
+        assertThat(seen).hasSize(1501).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void migration_createsTrigramIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'user_profiles' AND indexdef LIKE '%gin_trgm_ops%'",
+                String.class);
+
+        assertThat(indexes).containsExactlyInAnyOrder(
+                "idx_user_profiles_username_trgm",
+                "idx_user_profiles_full_name_trgm",
+                "idx_user_profiles_email_trgm"
+        );
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'user_profiles' AND indexdef LIKE '%gist_trgm_ops%'",
+                String.class)).containsExactlyInAnyOrder(
+                "idx_user_profiles_username_trgm_gist",
+                "idx_user_profiles_full_name_trgm_gist",
+                "idx_user_profiles_email_trgm_gist"
+        );
+    }
+
+    private void profile(String username, String fullName, String email) {
+        jdbcTemplate.update(
+                "INSERT INTO user_profiles (id, user_id, username, full_name, email) VALUES (?, ?, ?, ?, ?)",
+                UUID.randomUUID(), UUID.randomUUID(), username, fullName, email);
+    }
+
+    private static List<String> usernames(CursorPageResponse<UserProfileResponse> page) {
+        return page.getData().stream().map(UserProfileResponse::getUsername).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.r2s.user.test.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileRedisKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProfileCacheUnitTest {
+
+    @Mock
+    StringRedisTemplate redis;
+
+    @Mock
+    ValueOperations<String, String> values;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    UserProfileRedisKey redisKey = new UserProfileRedisKey();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    UserProfileCache cache;
+
+    UUID userId = UUID.randomUUID();
+    UserProfileResponse profile = UserProfileResponse.builder()
+            .username("alice")
+            .role(List.of("ROLE_USER"))
+            .email("alice@example.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redis.opsForValue()).thenReturn(values);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+        cache = new UserProfileCache(
+                true, 100, Duration.ofMinutes(1), true, Duration.ofMinutes(2),
+                redis, redisKey, objectMapper, beans.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    void get_missInBothTiers_loadsOnceAndFillsSharedTier() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(profile, cache.get(userId, id -> load(loads)));
+        assertEquals(profile, cache.get(userId, id -> load(loads)));
+
+        assertEquals(1, loads.get());
+        verify(values, times(1)).get(redisKey.profile(userId));
+        verify(values).set(redisKey.profile(userId), objectMapper.writeValueAsString(profile), Duration.ofMinutes(2));
+        assertEquals(1, meterRegistry.get("user.profile.cache.load").timer().count());
+    }
+
+    @Test
+    void get_sharedHit_skipsLoader() throws Exception {
+        when(values.get(redisKey.profile(userId))).thenReturn(objectMapper.writeValueAsString(profile));
+
+        assertEquals(profile, cache.get(userId, id -> fail("loader must not run on a shared hit")));
+        assertEquals(1, meterRegistry.get("user.profile.cache.shared").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void get_redisDown_fallsBackToLoader() {
+        when(values.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(values).set(anyString(), anyString(), any(Duration.class));
+
+        assertEquals(profile, cache.get(userId, id -> profile));
+        assertEquals(2, meterRegistry.get("user.profile.cache.shared").tag("result", "error").counter().count());
+    }
+
+    @Test
+    void get_loaderFails_isNotCached() {
+        assertThrows(AppException.class, () -> cache.get(userId, id -> {
+            throw new AppException(ErrorCode.USER_NOT_FOUND);
+        }));
+
+        assertEquals(profile, cache.get(userId, id -> profile));
+    }
+
+    @Test
+    void onMessage_fromOtherInstance_dropsLocalCopy_ownMessageIgnored() {
+        cache.put(userId, profile);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq(UserProfileRedisKey.INVALIDATION_CHANNEL), published.capture());
+
+        cache.onMessage(message(published.getValue()), null);
+        assertEquals(profile, cache.get(userId, id -> fail("own invalidation must not evict")));
+
+        cache.onMessage(message("other-instance:" + userId), null);
+        UserProfileResponse reloaded = UserProfileResponse.builder().username("alice").build();
+        assertEquals(reloaded, cache.get(userId, id -> reloaded));
+    }
+
+    private UserProfileResponse load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return profile;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                UserProfileRedisKey.INVALIDATION_CHANNEL.getBytes(StandardCharsets.US_ASCII),
+                body.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.r2s.user.test.unit;
+
+import com.r2s.core.dto.response.SliceResponse;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.core.redis.CounterRedisTemplate;
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileCounter;
+import com.r2s.user.domain.cache.UserProfileRedisKey;
+import com.r2s.user.domain.factory.UserProfileFactory;
+import com.r2s.user.domain.helper.SecurityContextHelper;
+import com.r2s.user.domain.pagination.ListTotal;
+import com.r2s.user.domain.projection.UserProfileView;
+import com.r2s.user.domain.validation.UserProfileValidation;
+import com.r2s.user.repository.UserProfileRepository;
+import com.r2s.user.service.impl.UserProfilesServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProfileCounterUnitTest {
+
+    @Mock
+    CounterRedisTemplate redis;
+
+    @Mock
+    ValueOperations<String, Long> values;
+
+    @Mock
+    UserProfileRepository userProfileRepository;
+
+    UserProfileRedisKey redisKey = new UserProfileRedisKey();
+    UserProfileCounter counter;
+    UserProfilesServiceImpl userProfilesService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redis.opsForValue()).thenReturn(values);
+        counter = new UserProfileCounter(Duration.ofHours(1), redis, redisKey, userProfileRepository);
+        userProfilesService = new UserProfilesServiceImpl(
+                userProfileRepository,
+                mock(SecurityContextHelper.class),
+                mock(UserProfileFactory.class),
+                new UserProfileValidation(userProfileRepository),
+                mock(UserProfileCache.class),
+                counter
+        );
+    }
+
+    @Test
+    void get_missingCounter_seedsFromExactCount() {
+        when(userProfileRepository.count()).thenReturn(42L);
+
+        assertEquals(42L, counter.get());
+        verify(values).setIfAbsent(redisKey.count(), 42L, Duration.ofHours(1));
+    }
+
+    @Test
+    void get_presentCounter_skipsCount() {
+        when(values.get(redisKey.count())).thenReturn(7L);
+
+        assertEquals(7L, counter.get());
+        verify(userProfileRepository, never()).count();
+    }
+
+    @Test
+    void get_redisDown_returnsNull_andUpdatesAreSwallowed() {
+        when(values.get(any())).thenThrow(new RedisConnectionFailureException("down"));
+        when(redis.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertNull(counter.get());
+        assertDoesNotThrow(() -> counter.increment());
+    }
+
+    @Test
+    void getSlice_totalModes() {
+        UserProfileView row = new UserProfileView(UUID.randomUUID(), "alice", new String[0], null, null, LocalDateTime.now());
+        when(userProfileRepository.findViewSlice(any(Pageable.class))).thenAnswer(invocation ->
+                new SliceImpl<>(List.of(row), invocation.getArgument(0), true));
+        when(userProfileRepository.estimateCount()).thenReturn(1_000L);
+        when(values.get(redisKey.count())).thenReturn(998L);
+
+        SliceResponse<UserProfileResponse> none = userProfilesService.getSlice(2, 1, ListTotal.NONE);
+        assertTrue(none.isHasNext());
+        assertNull(none.getTotalElements());
+        assertEquals(1_000L, userProfilesService.getSlice(2, 1, ListTotal.ESTIMATE).getTotalElements());
+        assertEquals(998L, userProfilesService.getSlice(2, 1, ListTotal.COUNTER).getTotalElements());
+        verify(userProfileRepository, times(3)).findViewSlice(eq(PageRequest.of(1, 1)));
+        verify(userProfileRepository, never()).count();
+
+        AppException exception = assertThrows(AppException.class, () -> userProfilesService.getSlice(1, 1, "exact"));
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+    }
+}
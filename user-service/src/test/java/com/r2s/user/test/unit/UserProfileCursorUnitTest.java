@@ -0,0 +1,109 @@
+package com.r2s.user.test.unit;
+
+import com.r2s.core.dto.response.CursorPageResponse;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileCounter;
+import com.r2s.user.domain.factory.UserProfileFactory;
+import com.r2s.user.domain.helper.SecurityContextHelper;
+import com.r2s.user.domain.pagination.UserProfileCursor;
+import com.r2s.user.domain.projection.UserProfileView;
+import com.r2s.user.domain.validation.UserProfileValidation;
+import com.r2s.user.repository.UserProfileRepository;
+import com.r2s.user.service.impl.UserProfilesServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProfileCursorUnitTest {
+
+    @Mock
+    UserProfileRepository userProfileRepository;
+
+    UserProfilesServiceImpl userProfilesService;
+
+    @BeforeEach
+    void setUp() {
+        userProfilesService = new UserProfilesServiceImpl(
+                userProfileRepository,
+                mock(SecurityContextHelper.class),
+                mock(UserProfileFactory.class),
+                new UserProfileValidation(userProfileRepository),
+                mock(UserProfileCache.class),
+                mock(UserProfileCounter.class)
+        );
+    }
+
+    @Test
+    void encode_roundTripsMicrosecondTimestampAndId() {
+        UserProfileCursor cursor = new UserProfileCursor(
+                LocalDateTime.of(2024, 3, 1, 12, 30, 45, 123_456_000),
+                UUID.randomUUID()
+        );
+
+        String encoded = cursor.encode();
+
+        assertEquals(32, encoded.length());
+        assertEquals(cursor, UserProfileCursor.decode(encoded));
+    }
+
+    @Test
+    void decode_rejectsMalformedCursor() {
+        for (String cursor : List.of("not base64!", "AAAA", new UserProfileCursor(LocalDateTime.now(), UUID.randomUUID()).encode() + "AA")) {
+            AppException exception = assertThrows(AppException.class, () -> UserProfileCursor.decode(cursor));
+            assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        }
+    }
+
+    @Test
+    void getListByCursor_fullPage_returnsCursorOfLastRow() {
+        List<UserProfileView> rows = profiles(4);
+        when(userProfileRepository.findFirstViews(4)).thenReturn(rows);
+
+        CursorPageResponse<UserProfileResponse> page = userProfilesService.getListByCursor(null, 3);
+
+        assertEquals(3, page.getData().size());
+        assertEquals(UserProfileCursor.of(rows.get(2)), UserProfileCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getListByCursor_seeksAfterCursor_andEndsWithoutNextCursor() {
+        UserProfileCursor after = new UserProfileCursor(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1_000), UUID.randomUUID());
+        when(userProfileRepository.findViewsAfter(after.createdAt(), after.id(), 4)).thenReturn(profiles(2));
+
+        CursorPageResponse<UserProfileResponse> page = userProfilesService.getListByCursor(after.encode(), 3);
+
+        assertEquals(2, page.getData().size());
+        assertNull(page.getNextCursor());
+        verify(userProfileRepository, never()).findFirstViews(anyInt());
+    }
+
+    private static List<UserProfileView> profiles(int count) {
+        List<UserProfileView> profiles = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < count; i++) {
+            profiles.add(new UserProfileView(
+                    UUID.randomUUID(),
+                    "user" + i,
+                    new String[]{"ROLE_USER"},
+                    null,
+                    null,
+                    createdAt.minusSeconds(i)
+            ));
+        }
+        return profiles;
+    }
+}
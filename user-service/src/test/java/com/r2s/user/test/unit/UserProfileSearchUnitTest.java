@@ -0,0 +1,110 @@
+package com.r2s.user.test.unit;
+
+import com.r2s.core.dto.response.CursorPageResponse;
+import com.r2s.core.dto.response.UserProfileResponse;
+import com.r2s.core.exception.AppException;
+import com.r2s.core.exception.ErrorCode;
+import com.r2s.user.domain.cache.UserProfileCache;
+import com.r2s.user.domain.cache.UserProfileCounter;
+import com.r2s.user.domain.factory.UserProfileFactory;
+import com.r2s.user.domain.helper.SecurityContextHelper;
+import com.r2s.user.domain.pagination.UserProfileSearchCursor;
+import com.r2s.user.domain.projection.UserProfileSearchHit;
+import com.r2s.user.domain.validation.UserProfileValidation;
+import com.r2s.user.repository.UserProfileRepository;
+import com.r2s.user.service.impl.UserProfilesServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProfileSearchUnitTest {
+
+    @Mock
+    UserProfileRepository userProfileRepository;
+
+    UserProfilesServiceImpl userProfilesService;
+
+    @BeforeEach
+    void setUp() {
+        userProfilesService = new UserProfilesServiceImpl(
+                userProfileRepository,
+                mock(SecurityContextHelper.class),
+                mock(UserProfileFactory.class),
+                new UserProfileValidation(userProfileRepository),
+                mock(UserProfileCache.class),
+                mock(UserProfileCounter.class)
+        );
+    }
+
+    @Test
+    void encode_roundTripsRankAndId() {
+        UserProfileSearchCursor cursor = new UserProfileSearchCursor(0.5882353f, UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertEquals(27, encoded.length());
+        assertEquals(cursor, UserProfileSearchCursor.decode(encoded));
+    }
+
+    @Test
+    void search_rejectsShortQueryBeforeQuerying() {
+        for (String query : new String[]{null, "ab", "  ab  ", "x".repeat(101)}) {
+            AppException exception = assertThrows(AppException.class, () -> userProfilesService.search(query, null, 4));
+            assertEquals(ErrorCode.SEARCH_QUERY_INVALID, exception.getErrorCode());
+        }
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    void search_escapesLikeWildcards_andReturnsCursorOfLastRow() {
+        List<UserProfileSearchHit> rows = hits(4);
+        when(userProfileRepository.searchFirst(eq("50%_off\\"), eq("%50\\%\\_off\\\\%"), eq(4)))
+                .thenReturn(rows);
+
+        CursorPageResponse<UserProfileResponse> page = userProfilesService.search(" 50%_off\\ ", null, 3);
+
+        assertEquals(3, page.getData().size());
+        assertEquals(UserProfileSearchCursor.of(rows.get(2)), UserProfileSearchCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void search_seeksAfterCursor_andEndsWithoutNextCursor() {
+        UserProfileSearchCursor after = new UserProfileSearchCursor(0.25f, UUID.randomUUID());
+        when(userProfileRepository.searchAfter(eq("nguyen"), eq("%nguyen%"), eq(0.25f), eq(after.id()), eq(4)))
+                .thenReturn(hits(2));
+
+        CursorPageResponse<UserProfileResponse> page = userProfilesService.search("nguyen", after.encode(), 3);
+
+        assertEquals(2, page.getData().size());
+        assertNull(page.getNextCursor());
+        verify(userProfileRepository, never()).searchFirst(any(), any(), anyInt());
+    }
+
+    private static List<UserProfileSearchHit> hits(int count) {
+        List<UserProfileSearchHit> hits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hits.add(new UserProfileSearchHit(
+                    UUID.randomUUID(),
+                    "user" + i,
+                    new String[]{"ROLE_USER"},
+                    null,
+                    null,
+                    LocalDateTime.of(2024, 1, 1, 0, 0),
+                    1f - i * 0.1f
+            ));
+        }
+        return hits;
+    }
+}